@@ -0,0 +1,31 @@
+package com.dev.finances.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler always on, so every result carries the allocation rate
+ * (gc.alloc.rate.norm, bytes per operation) next to the throughput. Accepts the usual JMH options:
+ *
+ * <pre>
+ * mvn install -DskipTests
+ * mvn -f benchmarks/pom.xml package
+ * java -jar benchmarks/target/benchmarks.jar ReleaseServiceBenchmark -p users=500
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result("target/jmh-result.json")
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,51 @@
+package com.dev.finances.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds {@code users * releasesPerUser} releases spread over the last 60 days, so the 30-day
+ * queries see roughly half of each user's history. Rows are generated inside H2 with
+ * INSERT ... SELECT from system_range, which keeps a million-row seed down to seconds.
+ */
+public class DataSeeder {
+
+	private final long firstUserId;
+	private final long firstReleaseId;
+	private final long releases;
+
+	private DataSeeder(long firstUserId, long firstReleaseId, long releases) {
+		this.firstUserId = firstUserId;
+		this.firstReleaseId = firstReleaseId;
+		this.releases = releases;
+	}
+
+	public static DataSeeder seed(JdbcTemplate jdbcTemplate, int users, int releasesPerUser) {
+		jdbcTemplate.update("insert into financas.user (name, email, password) "
+				+ "select concat('usuario ', x), concat('usuario', x, '@email.com'), 'senha' from system_range(1, ?)", users);
+		long firstUserId = jdbcTemplate.queryForObject("select min(id) from financas.user", Long.class);
+
+		long releases = (long) users * releasesPerUser;
+		jdbcTemplate.update("insert into financas.release (description, mes, ano, user_id, value, create_at, release_date, type, status) "
+				+ "select concat('lancamento ', x), month(d), year(d), ? + mod(x, ?), mod(x, 1000) + 0.99, d, d, "
+				+ "case when mod(x, 2) = 0 then 'RECEITA' else 'DESPESA' end, "
+				+ "case when mod(x, 3) = 0 then 'PENDENTE' else 'EFETIVADO' end "
+				+ "from (select x, dateadd('DAY', -mod(x, 60), current_date) d from system_range(1, ?))",
+				firstUserId, users, releases);
+		long firstReleaseId = jdbcTemplate.queryForObject("select min(id) from financas.release", Long.class);
+		jdbcTemplate.execute("analyze");
+
+		return new DataSeeder(firstUserId, firstReleaseId, releases);
+	}
+
+	public long getFirstUserId() {
+		return firstUserId;
+	}
+
+	public long getFirstReleaseId() {
+		return firstReleaseId;
+	}
+
+	public long getReleases() {
+		return releases;
+	}
+}
@@ -0,0 +1,161 @@
+package com.dev.finances.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.dev.finances.FinancesApplication;
+
+/**
+ * Compares the request execution modes (finances.web.execution) under many concurrent clients reading
+ * releases while every query takes {@code execbench.queryDelayMillis} more, as on a slow remote database. Each
+ * mode boots the application on its own in-memory H2 with the same Hikari pool, by default 400 connections, twice
+ * Tomcat's threads, so the pool is not the bottleneck: the platform mode is capped by Tomcat's threads and the
+ * virtual mode only by the pool. Requests that still wait longer than finances.web.virtual.acquire-timeout-ms
+ * for a connection are answered with 503 and counted as errors; lower execbench.poolSize to see that:
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.dev.finances.benchmark.ExecutionModeBenchmark
+ * java -Dexecbench.clients=2000 -Dexecbench.poolSize=100 -cp benchmarks/target/benchmarks.jar com.dev.finances.benchmark.ExecutionModeBenchmark
+ * </pre>
+ *
+ * Settings (system properties): execbench.modes, execbench.clients, execbench.poolSize, execbench.tomcatThreads,
+ * execbench.queryDelayMillis, execbench.users, execbench.warmupSeconds and execbench.durationSeconds. The
+ * virtual mode is skipped on runtimes older than Java 21.
+ */
+public class ExecutionModeBenchmark {
+
+	private final String baseUrl;
+	private final DataSeeder seeder;
+	private final int users;
+	private final Histogram latencies = new ConcurrentHistogram(3);
+	private final AtomicLong errors = new AtomicLong();
+	private volatile boolean recording;
+
+	ExecutionModeBenchmark(String baseUrl, DataSeeder seeder, int users) {
+		this.baseUrl = baseUrl;
+		this.seeder = seeder;
+		this.users = users;
+	}
+
+	public static void main(String[] args) throws Exception {
+		String[] modes = System.getProperty("execbench.modes", "platform,virtual").split(",");
+		int clients = Integer.getInteger("execbench.clients", 1000);
+		int poolSize = Integer.getInteger("execbench.poolSize", 400);
+		int tomcatThreads = Integer.getInteger("execbench.tomcatThreads", 200);
+		int queryDelayMillis = Integer.getInteger("execbench.queryDelayMillis", 50);
+		int users = Integer.getInteger("execbench.users", 500);
+		int warmupSeconds = Integer.getInteger("execbench.warmupSeconds", 10);
+		int durationSeconds = Integer.getInteger("execbench.durationSeconds", 30);
+
+		System.setProperty("http.maxConnections", String.valueOf(clients));
+
+		System.out.printf("%-10s %10s %10s %10s %10s %8s%n", "mode", "requests", "req/s", "p50 ms", "p99 ms", "errors");
+		for (String mode : modes) {
+			if ("virtual".equals(mode) && !hasVirtualThreads()) {
+				System.out.printf("%-10s skipped, requires Java 21 (running %s)%n", mode, System.getProperty("java.version"));
+				continue;
+			}
+			SlowQueryDataSource.enable(0);
+			ConfigurableApplicationContext context = new SpringApplicationBuilder(FinancesApplication.class, SlowQueryDataSource.class)
+					.properties(
+							"server.port=0",
+							"spring.datasource.url=jdbc:h2:mem:execbench-" + mode + ";DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS financas",
+							"spring.datasource.hikari.maximum-pool-size=" + poolSize,
+							"server.tomcat.threads.max=" + tomcatThreads,
+							"finances.web.execution=" + mode,
+							"finances.outbox.dispatcher.enabled=false",
+							"spring.devtools.restart.enabled=false",
+							"logging.level.root=WARN")
+					.run();
+			try {
+				DataSeeder seeder = DataSeeder.seed(context.getBean(JdbcTemplate.class), users, 50);
+				int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+				SlowQueryDataSource.enable(queryDelayMillis);
+
+				ExecutionModeBenchmark benchmark = new ExecutionModeBenchmark("http://localhost:" + port, seeder, users);
+				benchmark.run(clients, warmupSeconds, durationSeconds);
+				benchmark.report(mode, durationSeconds);
+			} finally {
+				context.close();
+			}
+		}
+		System.exit(0);
+	}
+
+	void run(int clients, int warmupSeconds, int durationSeconds) throws InterruptedException {
+		long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+		long end = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+		ExecutorService pool = Executors.newFixedThreadPool(clients);
+		for (int i = 0; i < clients; i++) {
+			pool.execute(() -> {
+				byte[] buffer = new byte[8192];
+				while (System.nanoTime() < end) {
+					long start = System.nanoTime();
+					boolean ok;
+					try {
+						ok = get(buffer);
+					} catch (IOException e) {
+						ok = false;
+					}
+					if (recording) {
+						latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+						if (!ok)
+							errors.incrementAndGet();
+					}
+				}
+			});
+		}
+		TimeUnit.NANOSECONDS.sleep(warmupEnd - System.nanoTime());
+		recording = true;
+
+		pool.shutdown();
+		pool.awaitTermination(durationSeconds + 60L, TimeUnit.SECONDS);
+	}
+
+	void report(String mode, int durationSeconds) {
+		System.out.printf("%-10s %10d %10.1f %10.2f %10.2f %8d%n", mode, latencies.getTotalCount(),
+				(double) latencies.getTotalCount() / durationSeconds,
+				latencies.getValueAtPercentile(50) / 1000.0,
+				latencies.getValueAtPercentile(99) / 1000.0,
+				errors.get());
+	}
+
+	private boolean get(byte[] buffer) throws IOException {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long userId = seeder.getFirstUserId() + random.nextLong(users);
+		String path = random.nextBoolean()
+				? "/api/releases/" + userId + "/releases-paginated?page=0&size=20"
+				: "/api/user/" + userId + "/balance";
+		HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+		int status = connection.getResponseCode();
+		try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+			if (in != null)
+				while (in.read(buffer) != -1) ;
+		}
+		return status < 400;
+	}
+
+	private static boolean hasVirtualThreads() {
+		try {
+			Thread.class.getMethod("ofVirtual");
+			return true;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+}
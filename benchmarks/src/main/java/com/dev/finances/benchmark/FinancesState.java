@@ -0,0 +1,67 @@
+package com.dev.finances.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.dev.finances.FinancesApplication;
+
+/**
+ * Boots the application without the web server on a private in-memory H2 database seeded by
+ * {@link DataSeeder}.
+ */
+@State(Scope.Benchmark)
+public class FinancesState {
+
+	@Param("2000")
+	public int users;
+
+	@Param("500")
+	public int releasesPerUser;
+
+	ConfigurableApplicationContext context;
+	long firstUserId;
+	long firstReleaseId;
+	long releases;
+
+	@Setup(Level.Trial)
+	public void start() {
+		context = new SpringApplicationBuilder(FinancesApplication.class)
+				.web(WebApplicationType.NONE)
+				.properties(
+						"spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS financas",
+						"spring.devtools.restart.enabled=false",
+						"logging.level.root=WARN")
+				.run();
+		DataSeeder seeder = DataSeeder.seed(context.getBean(JdbcTemplate.class), users, releasesPerUser);
+		firstUserId = seeder.getFirstUserId();
+		firstReleaseId = seeder.getFirstReleaseId();
+		releases = seeder.getReleases();
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() {
+		context.close();
+	}
+
+	public <T> T bean(Class<T> type) {
+		return context.getBean(type);
+	}
+
+	public long randomUserId() {
+		return firstUserId + ThreadLocalRandom.current().nextLong(users);
+	}
+
+	public long randomReleaseId() {
+		return firstReleaseId + ThreadLocalRandom.current().nextLong(releases);
+	}
+}
@@ -0,0 +1,249 @@
+package com.dev.finances.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.dev.finances.FinancesApplication;
+
+/**
+ * Local load test: boots the application on a random port over a seeded in-memory H2, drives a
+ * weighted mix of requests from a fixed number of closed-loop clients and prints p50/p99/p99.9
+ * latency and throughput per endpoint. With a baseline file present the run fails (exit code 1)
+ * when an endpoint's p99 grows or its throughput drops beyond the tolerance.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.dev.finances.benchmark.LoadTestRunner
+ * java -Dloadtest.updateBaseline=true -cp benchmarks/target/benchmarks.jar com.dev.finances.benchmark.LoadTestRunner
+ * </pre>
+ *
+ * Settings (system properties): loadtest.users, loadtest.releasesPerUser, loadtest.clients,
+ * loadtest.warmupSeconds, loadtest.durationSeconds, loadtest.baseline, loadtest.updateBaseline
+ * and loadtest.tolerance. Baselines only compare runs on the same machine.
+ */
+public class LoadTestRunner {
+
+	enum Endpoint {
+		CREATE(10), UPDATE_STATUS(10), PAGINATED(40), BALANCE(20), EXTRACT(20);
+
+		final int weight;
+
+		Endpoint(int weight) {
+			this.weight = weight;
+		}
+	}
+
+	private static final int TOTAL_WEIGHT = 100;
+
+	private final String baseUrl;
+	private final DataSeeder seeder;
+	private final int users;
+	private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+	private final Map<Endpoint, AtomicLong> errors = new EnumMap<>(Endpoint.class);
+	private volatile boolean recording;
+
+	LoadTestRunner(String baseUrl, DataSeeder seeder, int users) {
+		this.baseUrl = baseUrl;
+		this.seeder = seeder;
+		this.users = users;
+		for (Endpoint endpoint : Endpoint.values()) {
+			latencies.put(endpoint, new ConcurrentHistogram(3));
+			errors.put(endpoint, new AtomicLong());
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		int users = Integer.getInteger("loadtest.users", 1000);
+		int releasesPerUser = Integer.getInteger("loadtest.releasesPerUser", 200);
+		int clients = Integer.getInteger("loadtest.clients", 16);
+		int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 20);
+		int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 60);
+		Path baseline = Paths.get(System.getProperty("loadtest.baseline", "benchmarks/loadtest-baseline.properties"));
+		double tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.2"));
+
+		// HttpURLConnection keeps at most 5 idle connections per host by default
+		System.setProperty("http.maxConnections", String.valueOf(clients));
+
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(FinancesApplication.class)
+				.properties(
+						"server.port=0",
+						"spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS financas",
+						"spring.devtools.restart.enabled=false",
+						"logging.level.root=WARN")
+				.run();
+		boolean regressed;
+		try {
+			DataSeeder seeder = DataSeeder.seed(context.getBean(JdbcTemplate.class), users, releasesPerUser);
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			LoadTestRunner runner = new LoadTestRunner("http://localhost:" + port, seeder, users);
+
+			runner.run(clients, warmupSeconds, durationSeconds);
+			Properties result = runner.report(durationSeconds);
+
+			if (Boolean.getBoolean("loadtest.updateBaseline")) {
+				try (Writer writer = Files.newBufferedWriter(baseline, StandardCharsets.UTF_8)) {
+					result.store(writer, "p99 in microseconds, throughput in requests per second");
+				}
+				System.out.println("Baseline written to " + baseline.toAbsolutePath());
+				regressed = false;
+			} else {
+				regressed = runner.compare(result, baseline, tolerance);
+			}
+		} finally {
+			context.close();
+		}
+		System.exit(regressed ? 1 : 0);
+	}
+
+	void run(int clients, int warmupSeconds, int durationSeconds) throws InterruptedException {
+		long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+		long end = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+		ExecutorService pool = Executors.newFixedThreadPool(clients);
+		for (int i = 0; i < clients; i++) {
+			pool.execute(() -> {
+				byte[] buffer = new byte[8192];
+				while (System.nanoTime() < end) {
+					Endpoint endpoint = pick();
+					long start = System.nanoTime();
+					boolean ok;
+					try {
+						ok = send(endpoint, buffer);
+					} catch (IOException e) {
+						ok = false;
+					}
+					if (recording) {
+						latencies.get(endpoint).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+						if (!ok)
+							errors.get(endpoint).incrementAndGet();
+					}
+				}
+			});
+		}
+		TimeUnit.NANOSECONDS.sleep(warmupEnd - System.nanoTime());
+		recording = true;
+
+		pool.shutdown();
+		pool.awaitTermination(durationSeconds + 60L, TimeUnit.SECONDS);
+	}
+
+	Properties report(int durationSeconds) {
+		Properties result = new Properties();
+		System.out.printf("%-14s %10s %10s %10s %10s %10s %8s%n", "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "errors");
+		for (Endpoint endpoint : Endpoint.values()) {
+			Histogram histogram = latencies.get(endpoint);
+			double throughput = (double) histogram.getTotalCount() / durationSeconds;
+			System.out.printf("%-14s %10d %10.1f %10.2f %10.2f %10.2f %8d%n", endpoint, histogram.getTotalCount(), throughput,
+					histogram.getValueAtPercentile(50) / 1000.0,
+					histogram.getValueAtPercentile(99) / 1000.0,
+					histogram.getValueAtPercentile(99.9) / 1000.0,
+					errors.get(endpoint).get());
+			result.setProperty(endpoint + ".p99", String.valueOf(histogram.getValueAtPercentile(99)));
+			result.setProperty(endpoint + ".throughput", String.format(Locale.ROOT, "%.1f", throughput));
+		}
+		return result;
+	}
+
+	boolean compare(Properties result, Path baseline, double tolerance) throws IOException {
+		if (!Files.exists(baseline)) {
+			System.out.println("No baseline at " + baseline.toAbsolutePath() + ", run with -Dloadtest.updateBaseline=true to create one.");
+			return false;
+		}
+		Properties expected = new Properties();
+		try (Reader reader = Files.newBufferedReader(baseline, StandardCharsets.UTF_8)) {
+			expected.load(reader);
+		}
+
+		List<String> regressions = new ArrayList<>();
+		for (Endpoint endpoint : Endpoint.values()) {
+			if (errors.get(endpoint).get() > 0)
+				regressions.add(endpoint + ": " + errors.get(endpoint).get() + " failed requests");
+
+			String p99 = expected.getProperty(endpoint + ".p99");
+			if (p99 != null && Long.parseLong(result.getProperty(endpoint + ".p99")) > Long.parseLong(p99) * (1 + tolerance))
+				regressions.add(endpoint + ": p99 " + result.getProperty(endpoint + ".p99") + "us, baseline " + p99 + "us");
+
+			String throughput = expected.getProperty(endpoint + ".throughput");
+			if (throughput != null && Double.parseDouble(result.getProperty(endpoint + ".throughput")) < Double.parseDouble(throughput) * (1 - tolerance))
+				regressions.add(endpoint + ": " + result.getProperty(endpoint + ".throughput") + " req/s, baseline " + throughput + " req/s");
+		}
+		regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+		return !regressions.isEmpty();
+	}
+
+	private Endpoint pick() {
+		int roll = ThreadLocalRandom.current().nextInt(TOTAL_WEIGHT);
+		for (Endpoint endpoint : Endpoint.values()) {
+			roll -= endpoint.weight;
+			if (roll < 0)
+				return endpoint;
+		}
+		return Endpoint.PAGINATED;
+	}
+
+	private boolean send(Endpoint endpoint, byte[] buffer) throws IOException {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long userId = seeder.getFirstUserId() + random.nextLong(users);
+		switch (endpoint) {
+			case CREATE:
+				return call("POST", "/api/releases/create-release", "{\"description\":\"carga\",\"mouth\":1,\"year\":2020,\"value\":10.50,"
+						+ "\"userId\":" + userId + ",\"type\":\"DESPESA\",\"releaseDate\":" + System.currentTimeMillis() + "}", buffer);
+			case UPDATE_STATUS:
+				// every third seeded release starts PENDENTE; once changed, repeated hits are rejected with 400
+				long releaseId = seeder.getFirstReleaseId() + 3 * random.nextLong(seeder.getReleases() / 3) + 2;
+				return call("PUT", "/api/releases/" + releaseId + "/update-status?status=" + (random.nextBoolean() ? "EFETIVADO" : "CANCELADO"), null, buffer);
+			case PAGINATED:
+				return call("GET", "/api/releases/" + userId + "/releases-paginated?page=" + random.nextInt(5) + "&size=20", null, buffer);
+			case BALANCE:
+				return call("GET", "/api/user/" + userId + "/balance", null, buffer);
+			default:
+				return call("GET", "/api/user/" + userId + "/extract?releaseType=" + (random.nextBoolean() ? "RECEITA" : "DESPESA"), null, buffer);
+		}
+	}
+
+	private boolean call(String method, String path, String body, byte[] buffer) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+		connection.setRequestMethod(method);
+		if (body != null) {
+			connection.setDoOutput(true);
+			connection.setRequestProperty("Content-Type", "application/json");
+			try (OutputStream out = connection.getOutputStream()) {
+				out.write(body.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		int status = connection.getResponseCode();
+		// reading the body to the end lets the connection go back to the keep-alive pool
+		try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+			if (in != null)
+				while (in.read(buffer) != -1) ;
+		}
+		// business rejections (400, 409) are part of the mix, only server failures count as errors
+		return status < 500;
+	}
+}
@@ -0,0 +1,92 @@
+package com.dev.finances.benchmark;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import com.dev.finances.api.controller.ReleasesController;
+import com.dev.finances.api.dto.PaginatedResponseDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.service.UserService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgs = { "-Xms4g", "-Xmx4g" })
+public class ReleaseServiceBenchmark {
+
+	ReleaseService service;
+	UserService userService;
+	ReleasesController controller;
+	ObjectMapper objectMapper;
+	List<ReleasesDTO> page;
+
+	@Setup
+	public void setup(FinancesState state) {
+		service = state.bean(ReleaseService.class);
+		userService = state.bean(UserService.class);
+		controller = state.bean(ReleasesController.class);
+		objectMapper = state.bean(ObjectMapper.class);
+		page = service.getReleasesPaginated(state.firstUserId, 0, 20).getItems();
+	}
+
+	@Benchmark
+	public BigDecimal getBalanceByUser(FinancesState state) {
+		return service.getBalanceByUser(state.randomUserId(), null);
+	}
+
+	@Benchmark
+	public BigDecimal getExtractByReleaseType(FinancesState state) {
+		return service.getExtractByReleaseType(state.randomUserId(), ReleaseTypeEnum.DESPESA, null);
+	}
+
+	@Benchmark
+	public PaginatedResponseDTO<ReleasesDTO> getReleasesPaginated(FinancesState state) {
+		return service.getReleasesPaginated(state.randomUserId(), 0, 20);
+	}
+
+	@Benchmark
+	public List<ReleasesDTO> lastReleases(FinancesState state) {
+		return service.lastReleases(state.randomUserId(), null);
+	}
+
+	@Benchmark
+	@SuppressWarnings("deprecation")
+	public List<Release> find(FinancesState state) {
+		Release filter = new Release();
+		filter.setUser(userService.getById(state.randomUserId()).get());
+		filter.setMes(1);
+		return service.find(filter);
+	}
+
+	/** findById plus the controller's entity to DTO conversion. */
+	@Benchmark
+	public ResponseEntity getRelease(FinancesState state) {
+		return controller.getRelease(state.randomReleaseId());
+	}
+
+	/** Serialization of one page of DTOs, the last step of every list endpoint. */
+	@Benchmark
+	public byte[] writePageAsJson() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(page);
+	}
+}
@@ -0,0 +1,64 @@
+package com.dev.finances.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Adds a fixed delay to every statement executed through the application's {@link DataSource}, holding the
+ * connection like a slow query on a remote database would. Disabled until {@link #enable(long)}, so the
+ * migrations and the seed run at full speed.
+ */
+public class SlowQueryDataSource implements BeanPostProcessor {
+
+	private static volatile long delayMillis;
+
+	public static void enable(long millis) {
+		delayMillis = millis;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (!(bean instanceof DataSource))
+			return bean;
+		DataSource target = (DataSource) bean;
+		return proxy(DataSource.class, target, (proxy, method, args) -> {
+			Object result = invoke(target, method, args);
+			return result instanceof Connection ? proxy(Connection.class, result, statements((Connection) result)) : result;
+		});
+	}
+
+	private static InvocationHandler statements(Connection connection) {
+		return (proxy, method, args) -> {
+			Object result = invoke(connection, method, args);
+			if (!(result instanceof Statement))
+				return result;
+			Class<?> type = method.getReturnType();
+			return proxy(type, result, (statement, executed, executeArgs) -> {
+				if (executed.getName().startsWith("execute") && delayMillis > 0)
+					TimeUnit.MILLISECONDS.sleep(delayMillis);
+				return invoke(result, executed, executeArgs);
+			});
+		};
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	private static Object proxy(Class<?> type, Object target, InvocationHandler handler) {
+		return Proxy.newProxyInstance(SlowQueryDataSource.class.getClassLoader(), new Class<?>[] { type }, handler);
+	}
+}
@@ -0,0 +1,26 @@
+package com.dev.finances.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Read-only API over the {@code financas} schema written by the blocking application. It answers the query
+ * endpoints (last releases, paginated releases, balance and extract) on WebFlux + R2DBC, so a gateway can route
+ * those GETs here while writes keep going to the blocking API. {@code spring.r2dbc.url} (or
+ * {@code FINANCES_R2DBC_URL}) must point at that same database; startup fails without it.
+ *
+ * <pre>
+ * mvn install -DskipTests
+ * mvn -f reactive-read/pom.xml test
+ * java -jar reactive-read/target/minhasfinancas-reactive-read-0.0.1-SNAPSHOT.jar --spring.r2dbc.url=r2dbc:postgresql://localhost/financas \
+ *     --spring.r2dbc.username=... --spring.r2dbc.password=...
+ * </pre>
+ */
+@SpringBootApplication
+public class ReactiveReadApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveReadApplication.class, args);
+	}
+
+}
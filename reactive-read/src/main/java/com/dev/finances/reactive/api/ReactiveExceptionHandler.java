@@ -0,0 +1,18 @@
+package com.dev.finances.reactive.api;
+
+import com.dev.finances.exception.BusinessException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Business rule violations answer 400 with the message as body, like the blocking controllers.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<String> businessException(BusinessException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,48 @@
+package com.dev.finances.reactive.api;
+
+import com.dev.finances.api.dto.PaginatedResponseDTO;
+import com.dev.finances.api.dto.PeriodDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.reactive.service.ReactiveReleaseReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same paths and responses as the read endpoints of the blocking {@code ReleasesController}. Lists accept
+ * {@code application/stream+json} to receive one release per line as soon as it is read.
+ */
+@RestController
+@RequestMapping("/api/releases")
+@RequiredArgsConstructor
+public class ReactiveReleasesController {
+
+    private final ReactiveReleaseReadService service;
+
+    @GetMapping(value = "/last-releases/{userId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_STREAM_JSON_VALUE})
+    public Flux<ReleasesDTO> lastReleases(@PathVariable("userId") Long userId, PeriodDTO period) {
+        return service.lastReleases(userId, period);
+    }
+
+    @GetMapping("{userId}/releases-paginated")
+    public Mono<PaginatedResponseDTO<ReleasesDTO>> releasesPaginated(@PathVariable("userId") Long userId,
+                                                                     @RequestParam("page") Integer page,
+                                                                     @RequestParam("size") Integer size) {
+        return service.getReleasesPaginated(userId, page, size);
+    }
+
+    @GetMapping(value = "{userId}/releases-stream", produces = MediaType.APPLICATION_STREAM_JSON_VALUE)
+    public Mono<ResponseEntity<Flux<ReleasesDTO>>> releasesStream(@PathVariable("userId") Long userId) {
+        return service.existsUserById(userId)
+                .map(exists -> exists
+                        ? ResponseEntity.ok(service.streamReleases(userId))
+                        : ResponseEntity.notFound().<Flux<ReleasesDTO>>build());
+    }
+}
@@ -0,0 +1,52 @@
+package com.dev.finances.reactive.api;
+
+import com.dev.finances.api.dto.BalanceSummaryDTO;
+import com.dev.finances.api.dto.PeriodDTO;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.reactive.service.ReactiveReleaseReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+/**
+ * Same paths and responses as the balance and extract endpoints of the blocking {@code UserController}.
+ */
+@RestController
+@RequestMapping("/api/user")
+@RequiredArgsConstructor
+public class ReactiveUserController {
+
+    private final ReactiveReleaseReadService service;
+
+    @GetMapping("{id}/balance")
+    public Mono<ResponseEntity<BigDecimal>> getBalance(@PathVariable("id") Long id, PeriodDTO period) {
+        return ifUserExists(id, () -> service.getBalanceByUser(id, period));
+    }
+
+    @GetMapping("{id}/balance-summary")
+    public Mono<ResponseEntity<BalanceSummaryDTO>> getBalanceSummary(@PathVariable("id") Long id, PeriodDTO period) {
+        return ifUserExists(id, () -> service.getBalanceSummaryByUser(id, period));
+    }
+
+    @GetMapping("{userId}/extract")
+    public Mono<ResponseEntity<BigDecimal>> getExtract(@PathVariable("userId") Long userId,
+                                                       @RequestParam("releaseType") ReleaseTypeEnum releaseType,
+                                                       PeriodDTO period) {
+        return ifUserExists(userId, () -> service.getExtractByReleaseType(userId, releaseType, period));
+    }
+
+    private <T> Mono<ResponseEntity<T>> ifUserExists(Long userId, Supplier<Mono<T>> body) {
+        return service.existsUserById(userId)
+                .<ResponseEntity<T>>flatMap(exists -> exists
+                        ? body.get().map(ResponseEntity::<T>ok)
+                        : Mono.just(ResponseEntity.notFound().<T>build()));
+    }
+}
@@ -0,0 +1,121 @@
+package com.dev.finances.reactive.repository;
+
+import com.dev.finances.api.dto.BalanceSummaryDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Same queries as the JPA {@code ReleaseRepository} read side, in SQL over the {@code financas} schema, so they
+ * use the same indexes ({@code user_id, status, release_date} and {@code user_id, release_date desc, id desc}).
+ * Dates are bounded as there: {@code release_date >= startDate and release_date < endDate}.
+ */
+@Repository
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class ReactiveReleaseRepository {
+
+    private static final String SELECT_COLUMNS = "select r.id, r.description, r.mes, r.ano, r.value, r.user_id, r.type, "
+            + "r.status, r.release_date, r.version from financas.release r ";
+    private static final String WHERE_USER = " where r.user_id = :userId ";
+    private static final String WHERE_RELEASE_DATE_IN_RANGE = " and r.release_date >= :startDate and r.release_date < :endDate ";
+    private static final String ORDER_BY_RELEASE_DATE_DESC = " order by r.release_date desc, r.id desc ";
+
+    private final DatabaseClient client;
+
+    public Mono<Boolean> existsUserById(Long userId) {
+        return client.execute("select count(u.id) as total from financas.user u where u.id = :userId")
+                .bind("userId", userId)
+                .map((row, metadata) -> row.get("total", Long.class) > 0)
+                .one();
+    }
+
+    public Flux<ReleasesDTO> lastReleases(Long userId, LocalDateTime startDate, LocalDateTime endDate, int limit) {
+        return client.execute(SELECT_COLUMNS + WHERE_USER + WHERE_RELEASE_DATE_IN_RANGE + ORDER_BY_RELEASE_DATE_DESC + " limit :limit")
+                .bind("userId", userId)
+                .bind("startDate", startDate)
+                .bind("endDate", endDate)
+                .bind("limit", limit)
+                .map((row, metadata) -> toRelease(row))
+                .all();
+    }
+
+    public Flux<ReleasesDTO> findPage(Long userId, long offset, int limit) {
+        return client.execute(SELECT_COLUMNS + WHERE_USER + ORDER_BY_RELEASE_DATE_DESC + " limit :limit offset :offset")
+                .bind("userId", userId)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map((row, metadata) -> toRelease(row))
+                .all();
+    }
+
+    public Flux<ReleasesDTO> findAllByUser(Long userId) {
+        return client.execute(SELECT_COLUMNS + WHERE_USER + ORDER_BY_RELEASE_DATE_DESC)
+                .bind("userId", userId)
+                .map((row, metadata) -> toRelease(row))
+                .all();
+    }
+
+    public Mono<Long> countByUser(Long userId) {
+        return client.execute("select count(r.id) as total from financas.release r" + WHERE_USER)
+                .bind("userId", userId)
+                .map((row, metadata) -> row.get("total", Long.class))
+                .one();
+    }
+
+    public Mono<BigDecimal> getBalanceByReleaseTypeUserAndStatus(Long userId, ReleaseTypeEnum type, ReleaseStatusEnum status,
+                                                                 LocalDateTime startDate, LocalDateTime endDate) {
+        return client.execute("select coalesce(sum(r.value), 0) as total from financas.release r" + WHERE_USER
+                        + " and r.type = :type and r.status = :status" + WHERE_RELEASE_DATE_IN_RANGE)
+                .bind("userId", userId)
+                .bind("type", type.name())
+                .bind("status", status.name())
+                .bind("startDate", startDate)
+                .bind("endDate", endDate)
+                .map((row, metadata) -> row.get("total", BigDecimal.class))
+                .one();
+    }
+
+    public Mono<BalanceSummaryDTO> getBalanceSummaryByUserAndStatus(Long userId, ReleaseStatusEnum status,
+                                                                    LocalDateTime startDate, LocalDateTime endDate) {
+        return client.execute("select "
+                        + "sum(case when r.type = 'RECEITA' then r.value else 0 end) as income, "
+                        + "sum(case when r.type = 'DESPESA' then r.value else 0 end) as expense "
+                        + "from financas.release r" + WHERE_USER + " and r.status = :status" + WHERE_RELEASE_DATE_IN_RANGE)
+                .bind("userId", userId)
+                .bind("status", status.name())
+                .bind("startDate", startDate)
+                .bind("endDate", endDate)
+                .map((row, metadata) -> new BalanceSummaryDTO(row.get("income", BigDecimal.class), row.get("expense", BigDecimal.class)))
+                .one();
+    }
+
+    private static ReleasesDTO toRelease(Row row) {
+        LocalDateTime releaseDate = row.get("release_date", LocalDateTime.class);
+        String type = row.get("type", String.class);
+        String status = row.get("status", String.class);
+        return ReleasesDTO.builder()
+                .id(row.get("id", Long.class))
+                .description(row.get("description", String.class))
+                .mouth(row.get("mes", Integer.class))
+                .year(row.get("ano", Integer.class))
+                .value(row.get("value", BigDecimal.class))
+                .userId(row.get("user_id", Long.class))
+                .type(type == null ? null : ReleaseTypeEnum.valueOf(type))
+                .status(status == null ? null : ReleaseStatusEnum.valueOf(status))
+                .releaseDate(releaseDate == null ? null : Date.from(releaseDate.atZone(ZoneId.systemDefault()).toInstant()))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.dev.finances.reactive.service;
+
+import com.dev.finances.api.dto.BalanceSummaryDTO;
+import com.dev.finances.api.dto.DateRangeDTO;
+import com.dev.finances.api.dto.PaginatedResponseDTO;
+import com.dev.finances.api.dto.PeriodDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.reactive.repository.ReactiveReleaseRepository;
+import com.dev.finances.service.PeriodResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Reactive counterpart of the read methods of {@code ReleaseServiceImpl}: same period rules, limits and
+ * messages. Lists are emitted row by row and request at most {@code finances.reactive.prefetch} rows from the
+ * driver ahead of the subscriber, so a slow client slows the query down instead of filling the heap.
+ */
+@Service
+public class ReactiveReleaseReadService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int LAST_RELEASES_LIMIT = 50;
+
+    private final ReactiveReleaseRepository repository;
+    private final int rollingDays;
+    private final int prefetch;
+
+    public ReactiveReleaseReadService(ReactiveReleaseRepository repository,
+                                      @Value("${finances.balance.rolling-days:30}") int rollingDays,
+                                      @Value("${finances.reactive.prefetch:256}") int prefetch) {
+        this.repository = repository;
+        this.rollingDays = rollingDays;
+        this.prefetch = prefetch;
+    }
+
+    public Mono<Boolean> existsUserById(Long userId) {
+        return repository.existsUserById(userId);
+    }
+
+    public Flux<ReleasesDTO> lastReleases(Long userId, PeriodDTO period) {
+        return resolvePeriod(period)
+                .flatMapMany(range -> repository.lastReleases(userId, startOf(range), endOf(range), LAST_RELEASES_LIMIT))
+                .limitRate(prefetch);
+    }
+
+    public Mono<PaginatedResponseDTO<ReleasesDTO>> getReleasesPaginated(Long userId, Integer page, Integer size) {
+        if (page == null || page < 0)
+            return Mono.error(new BusinessException("Informe uma página válida."));
+        if (size == null || size < 1 || size > MAX_PAGE_SIZE)
+            return Mono.error(new BusinessException("Informe um tamanho de página entre 1 e " + MAX_PAGE_SIZE + "."));
+
+        return Mono.zip(repository.findPage(userId, (long) page * size, size).collectList(), repository.countByUser(userId))
+                .map(result -> new PaginatedResponseDTO<>(result.getT1(), result.getT2()));
+    }
+
+    public Flux<ReleasesDTO> streamReleases(Long userId) {
+        return repository.findAllByUser(userId).limitRate(prefetch);
+    }
+
+    public Mono<BigDecimal> getBalanceByUser(Long userId, PeriodDTO period) {
+        return getBalanceSummaryByUser(userId, period).map(BalanceSummaryDTO::getNet);
+    }
+
+    public Mono<BalanceSummaryDTO> getBalanceSummaryByUser(Long userId, PeriodDTO period) {
+        return resolvePeriod(period)
+                .flatMap(range -> repository.getBalanceSummaryByUserAndStatus(userId, ReleaseStatusEnum.EFETIVADO,
+                        startOf(range), endOf(range)));
+    }
+
+    public Mono<BigDecimal> getExtractByReleaseType(Long userId, ReleaseTypeEnum releaseType, PeriodDTO period) {
+        return resolvePeriod(period)
+                .flatMap(range -> repository.getBalanceByReleaseTypeUserAndStatus(userId, releaseType, ReleaseStatusEnum.EFETIVADO,
+                        startOf(range), endOf(range)));
+    }
+
+    private Mono<DateRangeDTO> resolvePeriod(PeriodDTO period) {
+        return Mono.fromCallable(() -> PeriodResolver.resolve(period, rollingDays, LocalDate.now()));
+    }
+
+    private static LocalDateTime startOf(DateRangeDTO range) {
+        return range.getStartDate().atStartOfDay();
+    }
+
+    private static LocalDateTime endOf(DateRangeDTO range) {
+        return range.getEndDate().plusDays(1).atStartOfDay();
+    }
+}
@@ -0,0 +1,125 @@
+package com.dev.finances.reactive;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+public class ReactiveReadApplicationTest {
+
+	// same in-memory database as spring.r2dbc.url in application-test.properties
+	private static final String JDBC_URL = "jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS financas";
+
+	@Autowired
+	WebTestClient client;
+
+	@BeforeAll
+	public static void criarBase() throws SQLException {
+		Flyway.configure()
+				.dataSource(JDBC_URL, "sa", "sa")
+				.schemas("financas")
+				.locations("classpath:db/migration")
+				.load()
+				.migrate();
+
+		try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "sa")) {
+			connection.createStatement().execute("insert into financas.user (id, name, email, password) values (1, 'usuario', 'usuario@email.com', 'senha')");
+			lancamento(connection, 1l, "salario", "100.00", "RECEITA", "EFETIVADO", 3);
+			lancamento(connection, 2l, "mercado", "40.00", "DESPESA", "EFETIVADO", 2);
+			lancamento(connection, 3l, "bonus", "1000.00", "RECEITA", "PENDENTE", 1);
+			lancamento(connection, 4l, "antigo", "500.00", "RECEITA", "EFETIVADO", 400);
+		}
+	}
+
+	@Test
+	public void deveCalcularSaldoEExtratoDosLancamentosEfetivadosNoPeriodo() {
+		client.get().uri("/api/user/1/balance").exchange()
+				.expectStatus().isOk()
+				.expectBody(BigDecimal.class).value(saldo -> Assertions.assertThat(saldo).isEqualByComparingTo("60.00"));
+
+		client.get().uri("/api/user/1/extract?releaseType=RECEITA&period=ULTIMOS_DIAS&dias=500").exchange()
+				.expectStatus().isOk()
+				.expectBody(BigDecimal.class).value(extrato -> Assertions.assertThat(extrato).isEqualByComparingTo("600.00"));
+	}
+
+	@Test
+	public void deveResponderNotFoundParaUsuarioInexistenteEBadRequestParaPeriodoInvalido() {
+		client.get().uri("/api/user/99/balance").exchange().expectStatus().isNotFound();
+
+		client.get().uri("/api/user/1/balance?period=MES&ano=2020&mes=13").exchange()
+				.expectStatus().isBadRequest()
+				.expectBody(String.class).isEqualTo("Informe um Mês válido.");
+	}
+
+	@Test
+	public void deveListarOsUltimosLancamentosEPaginarDoMaisRecente() {
+		client.get().uri("/api/releases/last-releases/1").exchange()
+				.expectStatus().isOk()
+				.expectBodyList(ReleasesDTO.class)
+				.value(lancamentos -> Assertions.assertThat(lancamentos).extracting(ReleasesDTO::getId).containsExactly(3l, 2l, 1l));
+
+		client.get().uri("/api/releases/1/releases-paginated?page=1&size=2").exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.totalRecords").isEqualTo(4)
+				.jsonPath("$.items[0].id").isEqualTo(1)
+				.jsonPath("$.items[1].id").isEqualTo(4);
+	}
+
+	@Test
+	public void deveTransmitirOsLancamentosConformeODemandadoPeloCliente() {
+		Flux<ReleasesDTO> lancamentos = client.get().uri("/api/releases/1/releases-stream")
+				.accept(MediaType.APPLICATION_STREAM_JSON)
+				.exchange()
+				.expectStatus().isOk()
+				.returnResult(ReleasesDTO.class)
+				.getResponseBody();
+
+		StepVerifier.create(lancamentos, 1)
+				.expectNextMatches(lancamento -> lancamento.getId() == 3l)
+				.thenRequest(3)
+				.expectNextCount(3)
+				.verifyComplete();
+	}
+
+	private static void lancamento(Connection connection, Long id, String descricao, String valor, String tipo,
+			String status, int diasAtras) throws SQLException {
+		LocalDate data = LocalDate.now().minusDays(diasAtras);
+		try (PreparedStatement statement = connection.prepareStatement("insert into financas.release "
+				+ "(id, description, mes, ano, user_id, value, create_at, release_date, type, status) values (?, ?, ?, ?, 1, ?, ?, ?, ?, ?)")) {
+			statement.setLong(1, id);
+			statement.setString(2, descricao);
+			statement.setInt(3, data.getMonthValue());
+			statement.setInt(4, data.getYear());
+			statement.setBigDecimal(5, new BigDecimal(valor));
+			statement.setDate(6, Date.valueOf(data));
+			statement.setTimestamp(7, Timestamp.valueOf(data.atTime(12, 0)));
+			statement.setString(8, tipo);
+			statement.setString(9, status);
+			statement.execute();
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.dev.finances.api.controller;
+
+import com.dev.finances.api.dto.DateRangeDTO;
+import com.dev.finances.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Strong ETags for resources derived from a user's releases. The tag is the user's release version (plus the
+ * resolved period, which moves daily for rolling windows), so a matching {@code If-None-Match} is answered
+ * with 304 after a single primary-key read of the user, without querying releases or serializing a body.
+ */
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class ReleaseETags {
+
+    private final UserService userService;
+
+    ResponseEntity respond(Long userId, WebRequest request, Supplier<?> body) {
+        return respond(userId, null, request, body);
+    }
+
+    ResponseEntity respond(Long userId, DateRangeDTO range, WebRequest request, Supplier<?> body) {
+        // read before the body: a write committed in between yields a newer body under the older tag, never the reverse
+        Optional<Long> version = userService.getReleaseVersion(userId);
+        if (!version.isPresent())
+            return ResponseEntity.ok(body.get());
+
+        String etag = "\"" + version.get() + (range == null ? "" : "-" + range.getStartDate() + "-" + range.getEndDate()) + "\"";
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        return ResponseEntity.ok().eTag(etag).body(body.get());
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null)
+            return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/"))
+                tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag))
+                return true;
+        }
+        return false;
+    }
+}
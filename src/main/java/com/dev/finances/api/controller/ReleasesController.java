@@ -1,15 +1,34 @@
 package com.dev.finances.api.controller;
 
+import com.dev.finances.api.dto.BulkCreateResultDTO;
+import com.dev.finances.api.dto.DateRangeDTO;
+import com.dev.finances.api.dto.PeriodDTO;
+import com.dev.finances.api.dto.ReleaseFilterDTO;
+import com.dev.finances.api.dto.ReleaseSelectionDTO;
 import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.api.dto.StatementImportDTO;
 import com.dev.finances.exception.BusinessException;
 import com.dev.finances.model.entity.Release;
 import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ExportFormatEnum;
 import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.StatementFormatEnum;
+import com.dev.finances.service.ReleaseExportService;
 import com.dev.finances.service.ReleaseService;
+import com.dev.finances.service.ReleaseStreamService;
+import com.dev.finances.service.ReleaseTextSearchService;
+import com.dev.finances.service.StatementImportService;
 import com.dev.finances.service.UserService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,7 +39,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,8 +58,16 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ReleasesController {
 
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     private final ReleaseService service;
     private final UserService userService;
+    private final StatementImportService statementImportService;
+    private final ReleaseExportService exportService;
+    private final ReleaseTextSearchService textSearchService;
+    private final ReleaseStreamService streamService;
+    private final ObjectMapper objectMapper;
+    private final ReleaseETags eTags;
 
     @GetMapping
     public ResponseEntity search(
@@ -55,6 +92,29 @@ public class ReleasesController {
         return ResponseEntity.ok(lancamentos);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity searchReleases(ReleaseFilterDTO filter,
+                                         @RequestParam("page") Integer page,
+                                         @RequestParam("size") Integer size) {
+        try {
+            return ResponseEntity.ok(service.search(filter, page, size));
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("{userId}/search/text")
+    public ResponseEntity searchText(@PathVariable("userId") @NonNull Long userId,
+                                     @RequestParam("q") String text,
+                                     @RequestParam(value = "page", defaultValue = "0") Integer page,
+                                     @RequestParam(value = "size", defaultValue = "20") Integer size) {
+        try {
+            return ResponseEntity.ok(textSearchService.search(userId, text, page, size));
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping("{id}")
     public ResponseEntity getRelease(@PathVariable("id") Long id) {
         return service.findById(id)
@@ -63,15 +123,63 @@ public class ReleasesController {
     }
 
     @GetMapping("/last-releases/{userId}")
-    public ResponseEntity lastReleases(@PathVariable("userId") @NonNull Long userId) {
-        return ResponseEntity.ok(service.lastReleases(userId));
+    public ResponseEntity lastReleases(@PathVariable("userId") @NonNull Long userId, PeriodDTO period, WebRequest request) {
+        try {
+            DateRangeDTO range = service.resolvePeriod(period);
+            return eTags.respond(userId, range, request, () -> service.lastReleases(userId, PeriodDTO.of(range)));
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping(value = "{userId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity stream(@PathVariable("userId") @NonNull Long userId) {
+        if (!userService.existsById(userId))
+            return ResponseEntity.notFound().build();
+
+        try {
+            return ResponseEntity.ok(streamService.subscribe(userId));
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping("{userId}/releases-paginated")
     public ResponseEntity releasesPaginated(@PathVariable("userId") @NonNull Long userId,
                                             @RequestParam("page") Integer page,
-                                            @RequestParam("size") Integer size) {
-        return ResponseEntity.ok(service.getReleasesPaginated(userId, page, size));
+                                            @RequestParam("size") Integer size,
+                                            WebRequest request) {
+        return eTags.respond(userId, request, () -> service.getReleasesPaginated(userId, page, size));
+    }
+
+    @GetMapping("{userId}/releases-paginated/cursor")
+    public ResponseEntity releasesAfter(@PathVariable("userId") @NonNull Long userId,
+                                        @RequestParam(value = "after", required = false) String after,
+                                        @RequestParam("size") Integer size,
+                                        @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+        try {
+            return ResponseEntity.ok(service.getReleasesAfter(userId, after, size, withTotal));
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("{userId}/export")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable("userId") Long userId,
+                                                        @RequestParam(value = "format", defaultValue = "CSV") ExportFormatEnum format) {
+        if (!userService.existsById(userId))
+            return ResponseEntity.notFound().build();
+
+        String extension = format.name().toLowerCase();
+        MediaType contentType = format == ExportFormatEnum.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+        StreamingResponseBody body = out -> exportService.export(userId, format, out);
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=lancamentos-" + userId + "." + extension)
+                .body(body);
     }
 
     @PostMapping("/create-release")
@@ -85,6 +193,79 @@ public class ReleasesController {
         }
     }
 
+    @PostMapping("{userId}/create-releases")
+    public ResponseEntity createAll(@PathVariable("userId") Long userId, HttpServletRequest request) throws IOException {
+        Optional<User> user = userService.getById(userId);
+        if (!user.isPresent())
+            return ResponseEntity.badRequest().body("Usuário não encontrado para o Id informado.");
+
+        BulkCreateResultDTO result = new BulkCreateResultDTO();
+        try (JsonParser parser = objectMapper.getFactory().createParser(request.getInputStream())) {
+            if (parser.nextToken() != JsonToken.START_ARRAY)
+                return ResponseEntity.badRequest().body("Informe uma lista de lançamentos.");
+
+            List<Release> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    result.fail("Lançamento " + result.getReceived() + " em diante não pôde ser lido: o item "
+                            + (result.getReceived() + chunk.size()) + " não é um lançamento.");
+                    return ResponseEntity.badRequest().body(result);
+                }
+                chunk.add(converter(objectMapper.readValue(parser, ReleasesDTO.class), user.get()));
+                if (chunk.size() == BULK_CHUNK_SIZE) {
+                    result.addChunk(chunk.size(), service.saveAll(chunk, result.getReceived()));
+                    chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+                }
+            }
+            if (parser.nextToken() != null) {
+                result.fail("Lançamento " + result.getReceived() + " em diante não pôde ser lido: há conteúdo após o fim da lista.");
+                return ResponseEntity.badRequest().body(result);
+            }
+            if (!chunk.isEmpty())
+                result.addChunk(chunk.size(), service.saveAll(chunk, result.getReceived()));
+        } catch (JsonProcessingException e) {
+            result.fail("Lançamento " + result.getReceived() + " em diante não pôde ser lido: " + e.getOriginalMessage());
+            return ResponseEntity.badRequest().body(result);
+        }
+
+        return new ResponseEntity(result, HttpStatus.CREATED);
+    }
+
+    @PostMapping("{userId}/import")
+    public ResponseEntity importStatement(@PathVariable("userId") Long userId,
+                                          @RequestParam("format") StatementFormatEnum format,
+                                          @RequestParam(value = "charset", defaultValue = "UTF-8") String charset,
+                                          @RequestParam("file") MultipartFile file) throws IOException {
+        Optional<User> user = userService.getById(userId);
+        if (!user.isPresent())
+            return ResponseEntity.badRequest().body("Usuário não encontrado para o Id informado.");
+        if (!Charset.isSupported(charset))
+            return ResponseEntity.badRequest().body("Codificação de arquivo não suportada.");
+
+        Path statement = Files.createTempFile("statement-", "." + format.name().toLowerCase());
+        boolean handedOver = false;
+        try {
+            file.transferTo(statement);
+            StatementImportDTO progress = statementImportService.start(user.get(), format, statement, Charset.forName(charset));
+            // from here on the import deletes the file when it finishes
+            handedOver = true;
+            return new ResponseEntity(progress, HttpStatus.ACCEPTED);
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } finally {
+            if (!handedOver)
+                Files.deleteIfExists(statement);
+        }
+    }
+
+    @GetMapping("{userId}/imports/{importId}")
+    public ResponseEntity importProgress(@PathVariable("userId") Long userId, @PathVariable("importId") String importId) {
+        return statementImportService.getProgress(userId, importId)
+                .map(progress -> new ResponseEntity(progress, HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity(HttpStatus.NOT_FOUND));
+    }
+
     @PutMapping
     public ResponseEntity update(@RequestBody ReleasesDTO dto) {
         return service.findById(dto.getId()).map(entity -> {
@@ -92,11 +273,13 @@ public class ReleasesController {
             try {
                 Release release = converter(dto);
                 release.setId(entity.getId());
-                service.update(release);
+                release.setVersion(service.update(release).getVersion());
 
-                return ResponseEntity.ok(release);
+                return ResponseEntity.ok(converter(release));
             } catch (BusinessException e) {
                 return ResponseEntity.badRequest().body(e.getMessage());
+            } catch (OptimisticLockingFailureException e) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("O lançamento foi alterado por outra operação, consulte-o novamente.");
             }
 
         }).orElseGet(() ->
@@ -105,23 +288,38 @@ public class ReleasesController {
 
     @PutMapping("{id}/update-status")
     public ResponseEntity updateStatus(@PathVariable("id") Long id,
-                                       @RequestParam("status") ReleaseStatusEnum status) {
-        return service.findById(id).map(entity -> {
-            ReleaseStatusEnum selectedStatus = ReleaseStatusEnum.valueOf(status.name());
+                                       @RequestParam("status") ReleaseStatusEnum status,
+                                       @RequestParam(value = "version", required = false) Long version) {
+        try {
+            return ResponseEntity.ok(service.updateStatus(id, status, version));
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
 
-            if (selectedStatus == null) {
-                return ResponseEntity.badRequest().body("Não foi possível atualizar o status do lançamentos, informe um status válido");
-            }
+    @PutMapping("/update-status")
+    public ResponseEntity updateStatusAll(@RequestParam("status") ReleaseStatusEnum status,
+                                          @RequestBody ReleaseSelectionDTO selection) {
+        try {
+            return ResponseEntity.ok(service.updateStatus(selection, status));
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
 
-            try {
-                entity.setStatus(selectedStatus);
-                service.update(entity);
-                return ResponseEntity.ok(entity);
-            } catch (BusinessException e) {
-                return ResponseEntity.badRequest().body(e.getMessage());
-            }
-        }).orElseGet(() ->
-                new ResponseEntity("Lançamento não encontrado na base de dados.", HttpStatus.BAD_REQUEST));
+    @PostMapping("/delete-releases")
+    public ResponseEntity deleteAll(@RequestBody ReleaseSelectionDTO selection) {
+        try {
+            return ResponseEntity.ok(service.deleteAll(selection));
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
     }
 
     @DeleteMapping("{id}")
@@ -144,6 +342,7 @@ public class ReleasesController {
                 .type(release.getType())
                 .releaseDate(release.getReleaseDate())
                 .userId(release.getUser().getId())
+                .version(release.getVersion())
                 .build();
 
     }
@@ -153,6 +352,10 @@ public class ReleasesController {
                 .getById(dto.getUserId())
                 .orElseThrow(() -> new BusinessException("Usuário não encontrado para o Id informado."));
 
+        return converter(dto, user);
+    }
+
+    private Release converter(ReleasesDTO dto, User user) {
         Release release = new Release();
         release.setId(dto.getId());
         release.setDescription(dto.getDescription());
@@ -160,6 +363,7 @@ public class ReleasesController {
         release.setMes(dto.getMouth());
         release.setValue(dto.getValue());
         release.setReleaseDate(dto.getReleaseDate());
+        release.setVersion(dto.getVersion());
         release.setUser(user);
 
         if (dto.getType() != null)
@@ -1,5 +1,8 @@
 package com.dev.finances.api.controller;
 
+import com.dev.finances.api.dto.BalanceSummaryDTO;
+import com.dev.finances.api.dto.DateRangeDTO;
+import com.dev.finances.api.dto.PeriodDTO;
 import com.dev.finances.api.dto.UserAuthenticated;
 import com.dev.finances.api.dto.UserDTO;
 import com.dev.finances.exception.AuthenticationException;
@@ -18,10 +21,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import java.math.BigDecimal;
-import java.util.Optional;
-
+import java.time.YearMonth;
 @RestController
 @RequestMapping("/api/user")
 @RequiredArgsConstructor
@@ -29,6 +31,7 @@ public class UserController {
 
     private final UserService service;
     private final ReleaseService releaseService;
+    private final ReleaseETags eTags;
 
     @PostMapping("/auth")
     public ResponseEntity auth(@RequestBody UserDTO dto) {
@@ -57,26 +60,71 @@ public class UserController {
     }
 
     @GetMapping("{id}/balance")
-    public ResponseEntity getBalance(@PathVariable("id") Long id) {
-        Optional<User> user = service.getById(id);
+    public ResponseEntity getBalance(@PathVariable("id") Long id, PeriodDTO period, WebRequest request) {
+        if (!service.existsById(id))
+            return new ResponseEntity(HttpStatus.NOT_FOUND);
+
+        try {
+            DateRangeDTO range = releaseService.resolvePeriod(period);
+            return eTags.respond(id, range, request, () -> releaseService.getBalanceByUser(id, PeriodDTO.of(range)));
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 
-        if (!user.isPresent())
+    @GetMapping("{id}/balance-summary")
+    public ResponseEntity getBalanceSummary(@PathVariable("id") Long id, PeriodDTO period, WebRequest request) {
+        if (!service.existsById(id))
             return new ResponseEntity(HttpStatus.NOT_FOUND);
 
-        BigDecimal balance = releaseService.getBalanceByUser(id);
-        return ResponseEntity.ok(balance);
+        try {
+            DateRangeDTO range = releaseService.resolvePeriod(period);
+            return eTags.respond(id, range, request, () -> releaseService.getBalanceSummaryByUser(id, PeriodDTO.of(range)));
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("{id}/monthly-balance")
+    public ResponseEntity getMonthlyBalance(@PathVariable("id") Long id,
+                                            @RequestParam("releaseYear") Integer releaseYear,
+                                            @RequestParam("releaseMonth") Integer releaseMonth) {
+        if (!service.existsById(id))
+            return new ResponseEntity(HttpStatus.NOT_FOUND);
+
+        BalanceSummaryDTO summary = releaseService.getBalanceSummaryByMonth(id, releaseYear, releaseMonth);
+        return ResponseEntity.ok(summary);
+    }
+
+    @GetMapping("{id}/cashflow")
+    public ResponseEntity getCashflow(@PathVariable("id") Long id,
+                                      @RequestParam("from") YearMonth from,
+                                      @RequestParam("to") YearMonth to) {
+        if (!service.existsById(id))
+            return new ResponseEntity(HttpStatus.NOT_FOUND);
+
+        try {
+            return ResponseEntity.ok(releaseService.getCashflow(id, from, to));
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping("{userId}/extract")
     public ResponseEntity getExtract(@PathVariable("userId") Long userId,
-                                     @RequestParam("releaseType") ReleaseTypeEnum releaseType) {
-        Optional<User> user = service.getById(userId);
-
-        if (!user.isPresent())
+                                     @RequestParam("releaseType") ReleaseTypeEnum releaseType,
+                                     PeriodDTO period,
+                                     WebRequest request) {
+        if (!service.existsById(userId))
             return new ResponseEntity(HttpStatus.NOT_FOUND);
 
-        BigDecimal extract = releaseService.getExtractByReleaseType(userId, releaseType);
-        return ResponseEntity.ok(extract);
+        try {
+            DateRangeDTO range = releaseService.resolvePeriod(period);
+            return eTags.respond(userId, range, request,
+                    () -> releaseService.getExtractByReleaseType(userId, releaseType, PeriodDTO.of(range)));
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
 }
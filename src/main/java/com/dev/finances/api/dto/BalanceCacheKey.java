@@ -0,0 +1,39 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Identifies a cached total: the releases of a user in {@code status} dated within a period, of one
+ * {@code type} or of both when {@code type} is null.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class BalanceCacheKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long userId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final ReleaseTypeEnum type;
+    private final ReleaseStatusEnum status;
+
+    public static BalanceCacheKey of(Long userId, DateRangeDTO range, ReleaseTypeEnum type, ReleaseStatusEnum status) {
+        return new BalanceCacheKey(userId, range.getStartDate(), range.getEndDate(), type, status);
+    }
+
+    public boolean affectedBy(ReleaseChangedEvent event) {
+        return (event.getUserId() == null || event.getUserId().equals(userId)) && event.affects(startDate, endDate, status);
+    }
+}
@@ -0,0 +1,26 @@
+package com.dev.finances.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceSummaryDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private BigDecimal income;
+    private BigDecimal expense;
+    private BigDecimal net;
+
+    public BalanceSummaryDTO(BigDecimal income, BigDecimal expense) {
+        this.income = (income == null) ? BigDecimal.ZERO : income;
+        this.expense = (expense == null) ? BigDecimal.ZERO : expense;
+        this.net = this.income.subtract(this.expense);
+    }
+}
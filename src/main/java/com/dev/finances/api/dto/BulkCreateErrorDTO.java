@@ -0,0 +1,13 @@
+package com.dev.finances.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateErrorDTO {
+    private Integer index;
+    private String message;
+}
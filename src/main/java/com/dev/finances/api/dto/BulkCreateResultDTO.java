@@ -0,0 +1,24 @@
+package com.dev.finances.api.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class BulkCreateResultDTO {
+    private int received;
+    private int created;
+    private String failure;
+    private final List<BulkCreateErrorDTO> errors = new ArrayList<>();
+
+    public void addChunk(int size, List<BulkCreateErrorDTO> chunkErrors) {
+        received += size;
+        created += size - chunkErrors.size();
+        errors.addAll(chunkErrors);
+    }
+
+    public void fail(String message) {
+        this.failure = message;
+    }
+}
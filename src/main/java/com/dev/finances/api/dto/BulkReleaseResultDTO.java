@@ -0,0 +1,21 @@
+package com.dev.finances.api.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Getter
+public class BulkReleaseResultDTO {
+    private final List<Long> applied = new ArrayList<>();
+    private final List<BulkReleaseErrorDTO> errors = new ArrayList<>();
+
+    public void apply(Collection<Long> ids) {
+        applied.addAll(ids);
+    }
+
+    public void reject(Long id, String message) {
+        errors.add(new BulkReleaseErrorDTO(id, message));
+    }
+}
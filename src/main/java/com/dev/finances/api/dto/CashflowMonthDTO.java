@@ -0,0 +1,25 @@
+package com.dev.finances.api.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+public class CashflowMonthDTO {
+
+    private Integer releaseYear;
+    private Integer releaseMonth;
+    private BigDecimal income;
+    private BigDecimal expense;
+    private BigDecimal net;
+
+    public CashflowMonthDTO(Integer releaseYear, Integer releaseMonth, BigDecimal income, BigDecimal expense) {
+        this.releaseYear = releaseYear;
+        this.releaseMonth = releaseMonth;
+        this.income = (income == null) ? BigDecimal.ZERO : income;
+        this.expense = (expense == null) ? BigDecimal.ZERO : expense;
+        this.net = this.income.subtract(this.expense);
+    }
+}
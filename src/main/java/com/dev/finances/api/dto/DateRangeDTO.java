@@ -0,0 +1,21 @@
+package com.dev.finances.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * A resolved {@link PeriodDTO}: both dates are inclusive. A closed range ends before the day it was
+ * resolved on, so its totals only change through back-dated writes and can be cached.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DateRangeDTO {
+
+	private LocalDate startDate;
+	private LocalDate endDate;
+	private boolean closed;
+}
@@ -0,0 +1,39 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyBalanceEntryDTO {
+
+    private Long userId;
+    private Integer releaseYear;
+    private Integer releaseMonth;
+    private ReleaseTypeEnum type;
+    private ReleaseStatusEnum status;
+    private BigDecimal value;
+
+    /**
+     * The entry of the month the release is dated in, the same month the balance periods over
+     * {@code releaseDate} split on. Without a date the entry is left incomplete.
+     */
+    public static MonthlyBalanceEntryDTO of(Long userId, Date releaseDate, ReleaseTypeEnum type, ReleaseStatusEnum status, BigDecimal value) {
+        if (releaseDate == null)
+            return new MonthlyBalanceEntryDTO(userId, null, null, type, status, value);
+        YearMonth month = YearMonth.from(Instant.ofEpochMilli(releaseDate.getTime()).atZone(ZoneId.systemDefault()));
+        return new MonthlyBalanceEntryDTO(userId, month.getYear(), month.getMonthValue(), type, status, value);
+    }
+}
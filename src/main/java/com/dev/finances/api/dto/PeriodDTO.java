@@ -0,0 +1,41 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.model.enums.PeriodTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Period requested over {@code releaseDate}. Only the fields of the chosen {@link PeriodTypeEnum} are read;
+ * without a type the configured rolling window ({@code finances.balance.rolling-days}) is used.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeriodDTO {
+
+	private PeriodTypeEnum period;
+	private Integer ano;
+	private Integer mes;
+	private Integer trimestre;
+	private Integer dias;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate startDate;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate endDate;
+
+	public static PeriodDTO of(DateRangeDTO range) {
+		return PeriodDTO.builder()
+				.period(PeriodTypeEnum.INTERVALO)
+				.startDate(range.getStartDate())
+				.endDate(range.getEndDate())
+				.build();
+	}
+}
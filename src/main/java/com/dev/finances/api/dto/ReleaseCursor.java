@@ -0,0 +1,44 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.exception.BusinessException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Position of the last release returned by a keyset page, ordered by (releaseDate, id) descending.
+ * Clients receive it as an opaque token and send it back untouched to fetch the next page.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReleaseCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final Date releaseDate;
+    private final Long id;
+
+    public static ReleaseCursor of(ReleasesDTO release) {
+        return new ReleaseCursor(release.getReleaseDate(), release.getId());
+    }
+
+    public String encode() {
+        String raw = releaseDate.getTime() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReleaseCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length != 2)
+                throw new IllegalArgumentException(raw);
+            return new ReleaseCursor(new Date(Long.parseLong(parts[0])), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Cursor de paginação inválido.");
+        }
+    }
+}
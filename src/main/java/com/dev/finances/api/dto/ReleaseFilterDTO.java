@@ -0,0 +1,34 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseFilterDTO {
+
+	private Long userId;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate startDate;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate endDate;
+
+	private ReleaseTypeEnum type;
+	private ReleaseStatusEnum status;
+	private BigDecimal minValue;
+	private BigDecimal maxValue;
+	private Integer mes;
+	private Integer ano;
+}
@@ -0,0 +1,31 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.model.entity.Release;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * The (releaseDate, value, description) triple used to recognise a statement line that was already imported.
+ * Equal triples are legitimate (two coffees on the same day), so they are matched by count, never collapsed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseFingerprintDTO {
+
+    private Date releaseDate;
+    private BigDecimal value;
+    private String description;
+
+    public static ReleaseFingerprintDTO of(Release release) {
+        return new ReleaseFingerprintDTO(release.getReleaseDate(), release.getValue(), release.getDescription());
+    }
+
+    public String key() {
+        return releaseDate.getTime() + "|" + value.stripTrailingZeros().toPlainString() + "|" + description.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,23 @@
+package com.dev.finances.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Releases targeted by a bulk operation: either explicit ids among the releases of {@code userId} or every
+ * release of a user that matches the filter.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseSelectionDTO {
+
+    private Long userId;
+    private List<Long> ids;
+    private ReleaseFilterDTO filter;
+}
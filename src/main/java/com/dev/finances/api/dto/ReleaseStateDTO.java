@@ -0,0 +1,26 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseStateDTO {
+
+    private Long id;
+    private Long version;
+    private Long userId;
+    private Integer ano;
+    private Integer mes;
+    private ReleaseTypeEnum type;
+    private ReleaseStatusEnum status;
+    private BigDecimal value;
+    private Date releaseDate;
+}
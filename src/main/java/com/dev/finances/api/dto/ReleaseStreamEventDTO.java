@@ -0,0 +1,20 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.model.enums.ReleaseEventTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pushed to a user's event stream after a release write commits. {@code releaseId} is null for batch writes;
+ * {@code balance} is the summary of the default rolling window after the write.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseStreamEventDTO {
+
+	private ReleaseEventTypeEnum type;
+	private Long releaseId;
+	private BalanceSummaryDTO balance;
+}
@@ -25,4 +25,5 @@ public class ReleasesDTO {
 	private ReleaseTypeEnum type;
 	private ReleaseStatusEnum status;
 	private Date releaseDate;
+	private Long version;
 }
@@ -0,0 +1,14 @@
+package com.dev.finances.api.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class StatementChunkResultDTO {
+    private final int created;
+    private final int duplicated;
+    private final List<BulkCreateErrorDTO> errors;
+}
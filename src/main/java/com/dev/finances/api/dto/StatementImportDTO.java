@@ -0,0 +1,95 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.model.enums.StatementFormatEnum;
+import com.dev.finances.model.enums.StatementImportStatusEnum;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Progress of a statement import. It is updated by the import thread and read by status requests,
+ * so every mutation and read goes through the instance monitor.
+ */
+@Getter
+public class StatementImportDTO {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long userId;
+    private final StatementFormatEnum format;
+    private StatementImportStatusEnum status = StatementImportStatusEnum.EM_ANDAMENTO;
+    private int read;
+    private int created;
+    private int duplicated;
+    private int rejected;
+    private String failure;
+    private final List<BulkCreateErrorDTO> errors = new ArrayList<>();
+
+    public StatementImportDTO(Long userId, StatementFormatEnum format) {
+        this.userId = userId;
+        this.format = format;
+    }
+
+    public synchronized void reject(int line, String message) {
+        read++;
+        rejected++;
+        addError(new BulkCreateErrorDTO(line, message));
+    }
+
+    public synchronized void addChunk(int size, StatementChunkResultDTO chunk) {
+        read += size;
+        created += chunk.getCreated();
+        duplicated += chunk.getDuplicated();
+        rejected += chunk.getErrors().size();
+        chunk.getErrors().forEach(this::addError);
+    }
+
+    public synchronized void finish() {
+        status = StatementImportStatusEnum.CONCLUIDO;
+    }
+
+    public synchronized void fail(String message) {
+        status = StatementImportStatusEnum.FALHOU;
+        failure = message;
+    }
+
+    public synchronized boolean isFinished() {
+        return status != StatementImportStatusEnum.EM_ANDAMENTO;
+    }
+
+    public synchronized StatementImportStatusEnum getStatus() {
+        return status;
+    }
+
+    public synchronized int getRead() {
+        return read;
+    }
+
+    public synchronized int getCreated() {
+        return created;
+    }
+
+    public synchronized int getDuplicated() {
+        return duplicated;
+    }
+
+    public synchronized int getRejected() {
+        return rejected;
+    }
+
+    public synchronized String getFailure() {
+        return failure;
+    }
+
+    public synchronized List<BulkCreateErrorDTO> getErrors() {
+        return new ArrayList<>(errors);
+    }
+
+    private void addError(BulkCreateErrorDTO error) {
+        if (errors.size() < MAX_REPORTED_ERRORS)
+            errors.add(error);
+    }
+}
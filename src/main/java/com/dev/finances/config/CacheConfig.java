@@ -0,0 +1,13 @@
+package com.dev.finances.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	public static final String USERS = "users";
+	public static final String USER_EXISTS = "userExists";
+
+}
@@ -0,0 +1,71 @@
+package com.dev.finances.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every call to the user and release services and to the Spring Data repositories. Runs
+ * outside the transaction and cache advice, so service timings include commit and cache hits; the
+ * gap between {@code http.server.requests} and {@value #SERVICE_TIMER} is the web layer, mostly
+ * serialization. Failed calls are counted through the {@code exception} tag.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class MetricsAspect {
+
+    public static final String SERVICE_TIMER = "finances.service";
+    public static final String REPOSITORY_TIMER = "finances.repository";
+
+    private final MeterRegistry registry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.dev.finances.service.ReleaseService.*(..)) || execution(* com.dev.finances.service.UserService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, SERVICE_TIMER, "service", joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, REPOSITORY_TIMER, "repository", repositoryName(joinPoint.getThis().getClass()));
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String name, String typeTag, String type) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag(typeTag, type)
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(registry));
+        }
+    }
+
+    // inherited methods such as findById are declared on CrudRepository, so the name comes from the proxy
+    private String repositoryName(Class<?> proxyClass) {
+        return repositoryNames.computeIfAbsent(proxyClass, type -> Arrays.stream(type.getInterfaces())
+                .filter(Repository.class::isAssignableFrom)
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElse(type.getSimpleName()));
+    }
+}
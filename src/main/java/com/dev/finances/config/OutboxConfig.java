@@ -0,0 +1,30 @@
+package com.dev.finances.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.dev.finances.service.ReleaseOutboxService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Polls the release outbox. Per-user ordering relies on a single dispatcher, so run it on one node only
+ * ({@code finances.outbox.dispatcher.enabled=false} on the others).
+ */
+@Configuration
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "finances.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfig {
+
+	private final ReleaseOutboxService outboxService;
+
+	@Scheduled(fixedDelayString = "${finances.outbox.poll-ms:1000}")
+	public void dispatchOutbox() {
+		while (outboxService.dispatch() > 0) {
+			// keeps draining while the batches are delivering something
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package com.dev.finances.config;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Opt-in ({@code finances.web.execution=virtual}) execution of every request on its own virtual thread instead
+ * of Tomcat's platform pool, so requests blocked on JDBC no longer cap concurrency at
+ * {@code server.tomcat.threads.max}. Virtual threads are unbounded, so the database is bounded where it is used:
+ * the Hikari pool is the limiter. Requests that never reach it (cache hits, SSE subscriptions, static
+ * resources) run freely, and those waiting for a connection give up after
+ * {@code finances.web.virtual.acquire-timeout-ms}, which replaces {@code spring.datasource.hikari.connection-timeout}
+ * in this mode, and are answered with 503 instead of a 500.
+ * <p>
+ * The build stays on Java 8, so virtual threads are looked up reflectively and the application refuses to start
+ * in this mode on a runtime older than 21.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "finances.web.execution", havingValue = "virtual")
+public class WebExecutionConfig {
+
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService requestExecutor() {
+		return newVirtualThreadExecutor("http-virtual-");
+	}
+
+	@Bean
+	public WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadTomcatCustomizer(
+			@Qualifier("requestExecutor") ExecutorService requestExecutor) {
+		return factory -> factory.addConnectorCustomizers(connector -> connector.getProtocolHandler().setExecutor(requestExecutor));
+	}
+
+	@Bean
+	public static BeanPostProcessor connectionAcquireTimeout(@Value("${finances.web.virtual.acquire-timeout-ms:2000}") long acquireTimeoutMillis) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof HikariDataSource) {
+					log.info("Requisições em threads virtuais, aguardando até {} ms por uma conexão.", acquireTimeoutMillis);
+					((HikariDataSource) bean).setConnectionTimeout(acquireTimeoutMillis);
+				}
+				return bean;
+			}
+		};
+	}
+
+	@Bean
+	public FilterRegistrationBean<ConnectionUnavailableFilter> connectionUnavailableFilter() {
+		FilterRegistrationBean<ConnectionUnavailableFilter> registration = new FilterRegistrationBean<>(new ConnectionUnavailableFilter());
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
+	}
+
+	static boolean isVirtualThreadSupported() {
+		try {
+			Thread.class.getMethod("ofVirtual");
+			return true;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	static ExecutorService newVirtualThreadExecutor(String namePrefix) {
+		if (!isVirtualThreadSupported())
+			throw new IllegalStateException("Threads virtuais exigem Java 21 ou superior, versão atual: "
+					+ System.getProperty("java.version") + ".");
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+			builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+			ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+			Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+			return (ExecutorService) perTask.invoke(null, factory);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Não foi possível criar o executor de threads virtuais.", e);
+		}
+	}
+
+	/**
+	 * Answers the requests that timed out waiting for a database connection with 503 and a {@code Retry-After}, so
+	 * clients back off instead of seeing a server error.
+	 */
+	static class ConnectionUnavailableFilter extends OncePerRequestFilter {
+
+		@Override
+		protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+				throws ServletException, IOException {
+			try {
+				chain.doFilter(request, response);
+			} catch (ServletException | RuntimeException e) {
+				if (response.isCommitted() || !isConnectionUnavailable(e))
+					throw e;
+				response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+				response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Servidor sobrecarregado, tente novamente em instantes.");
+			}
+		}
+
+		private boolean isConnectionUnavailable(Throwable error) {
+			for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+				if (cause instanceof SQLTransientConnectionException)
+					return true;
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package com.dev.finances.event;
+
+import com.dev.finances.model.enums.ReleaseEventTypeEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Published by {@link com.dev.finances.service.ReleaseService} inside the transaction of every release write.
+ * {@code releaseId} is null when a batch of releases was written at once. {@code firstDate}/{@code lastDate}
+ * span the release dates touched by the write (before and after it) and {@code statuses} the statuses those
+ * releases had; any of them is null when unknown, meaning every period of the user may have changed.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ReleaseChangedEvent {
+
+    private final Long userId;
+    private final ReleaseEventTypeEnum type;
+    private final Long releaseId;
+    private final LocalDate firstDate;
+    private final LocalDate lastDate;
+    private final Set<ReleaseStatusEnum> statuses;
+
+    public ReleaseChangedEvent(Long userId, ReleaseEventTypeEnum type, Long releaseId) {
+        this(userId, type, releaseId, null, null, null);
+    }
+
+    /**
+     * Whether the write may have changed totals of releases in {@code status} dated between {@code startDate}
+     * and {@code endDate} (inclusive). A null {@code status} stands for every status.
+     */
+    public boolean affects(LocalDate startDate, LocalDate endDate, ReleaseStatusEnum status) {
+        if (statuses != null && status != null && !statuses.contains(status))
+            return false;
+        if (firstDate == null || lastDate == null)
+            return true;
+        return !firstDate.isAfter(endDate) && !lastDate.isBefore(startDate);
+    }
+}
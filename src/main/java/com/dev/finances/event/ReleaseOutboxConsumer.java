@@ -0,0 +1,13 @@
+package com.dev.finances.event;
+
+/**
+ * Derived view fed by the release outbox. Every bean of this type receives each committed
+ * {@link ReleaseChangedEvent}, in commit order per user, off the request path. Delivery is at least once: when any
+ * consumer throws, the event is retried for all of them, so implementations must be idempotent ({@code outboxId}
+ * identifies the event across retries). An event that keeps failing is parked after
+ * {@code finances.outbox.max-attempts} and no longer delivered.
+ */
+public interface ReleaseOutboxConsumer {
+
+    void accept(Long outboxId, ReleaseChangedEvent event);
+}
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.springframework.data.jpa.convert.threeten.Jsr310JpaConverters;
 
 import javax.persistence.Column;
@@ -13,12 +14,16 @@ import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Date;
@@ -26,12 +31,15 @@ import java.util.Date;
 
 @Entity
 @Table(name = "release", schema = "financas")
+@NamedEntityGraph(name = Release.WITH_USER, attributeNodes = @NamedAttributeNode("user"))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Release {
 
+	public static final String WITH_USER = "Release.user";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Column
@@ -46,8 +54,9 @@ public class Release {
 	@Column
 	private Integer ano;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "user_id")
+	@ToString.Exclude
 	private User user;
 
 	@Column
@@ -67,4 +76,8 @@ public class Release {
 	@Column
 	@Enumerated(value = EnumType.STRING)
 	private ReleaseStatusEnum status;
+
+	@Version
+	@Column(nullable = false)
+	private Long version;
 }
@@ -0,0 +1,74 @@
+package com.dev.finances.model.entity;
+
+import com.dev.finances.model.enums.ReleaseEventTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.convert.threeten.Jsr310JpaConverters;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "release_outbox", schema = "financas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseOutbox {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column
+	private Long id;
+
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(nullable = false)
+	@Enumerated(value = EnumType.STRING)
+	private ReleaseEventTypeEnum type;
+
+	@Column(name = "release_id")
+	private Long releaseId;
+
+	@Column(name = "first_date")
+	@Convert(converter = Jsr310JpaConverters.LocalDateConverter.class)
+	private LocalDate firstDate;
+
+	@Column(name = "last_date")
+	@Convert(converter = Jsr310JpaConverters.LocalDateConverter.class)
+	private LocalDate lastDate;
+
+	/** comma-separated {@link com.dev.finances.model.enums.ReleaseStatusEnum} names, null when unknown */
+	@Column
+	private String statuses;
+
+	@Column(name = "created_at", nullable = false)
+	@Convert(converter = Jsr310JpaConverters.LocalDateTimeConverter.class)
+	private LocalDateTime createdAt;
+
+	@Column(nullable = false)
+	private Integer attempts;
+
+	@Column(name = "next_attempt_at")
+	@Convert(converter = Jsr310JpaConverters.LocalDateTimeConverter.class)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "last_error")
+	private String lastError;
+
+	@Column(name = "parked_at")
+	@Convert(converter = Jsr310JpaConverters.LocalDateTimeConverter.class)
+	private LocalDateTime parkedAt;
+}
@@ -37,5 +37,12 @@ public class User {
 	@Column
 	@JsonIgnore
 	private String password;
+
+	/**
+	 * Bumped in the transaction of every write to the user's releases; backs the ETags of release lists and balances.
+	 */
+	@Column(name = "release_version", insertable = false, updatable = false)
+	@JsonIgnore
+	private Long releaseVersion;
 	
 }
\ No newline at end of file
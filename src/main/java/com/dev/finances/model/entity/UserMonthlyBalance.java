@@ -0,0 +1,54 @@
+package com.dev.finances.model.entity;
+
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "user_monthly_balance", schema = "financas",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "release_year", "release_month", "type", "status"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserMonthlyBalance {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "release_year", nullable = false)
+	private Integer releaseYear;
+
+	@Column(name = "release_month", nullable = false)
+	private Integer releaseMonth;
+
+	@Column(nullable = false)
+	@Enumerated(value = EnumType.STRING)
+	private ReleaseTypeEnum type;
+
+	@Column(nullable = false)
+	@Enumerated(value = EnumType.STRING)
+	private ReleaseStatusEnum status;
+
+	@Column(nullable = false)
+	private BigDecimal total;
+}
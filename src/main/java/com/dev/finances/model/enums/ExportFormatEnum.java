@@ -0,0 +1,6 @@
+package com.dev.finances.model.enums;
+
+public enum ExportFormatEnum {
+	CSV,
+	NDJSON
+}
@@ -0,0 +1,10 @@
+package com.dev.finances.model.enums;
+
+public enum PeriodTypeEnum {
+
+	MES,
+	TRIMESTRE,
+	ANO,
+	ULTIMOS_DIAS,
+	INTERVALO
+}
@@ -0,0 +1,7 @@
+package com.dev.finances.model.enums;
+
+public enum ReleaseEventTypeEnum {
+	CRIADO,
+	ATUALIZADO,
+	REMOVIDO
+}
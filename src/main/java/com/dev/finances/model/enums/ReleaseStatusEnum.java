@@ -3,5 +3,9 @@ package com.dev.finances.model.enums;
 public enum ReleaseStatusEnum {
 	PENDENTE,
 	CANCELADO,
-	EFETIVADO
+	EFETIVADO;
+
+	public boolean canChangeTo(ReleaseStatusEnum status) {
+		return this == PENDENTE && (status == EFETIVADO || status == CANCELADO);
+	}
 }
@@ -0,0 +1,25 @@
+package com.dev.finances.model.repository;
+
+import com.dev.finances.model.entity.ReleaseOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReleaseOutboxRepository extends JpaRepository<ReleaseOutbox, Long> {
+
+    /**
+     * Pending entries due for delivery, oldest first. An entry waits while an older one of the same user (or an
+     * older entry without user, which touches every user) is waiting for a retry, so a user's events keep their
+     * order and one failing entry cannot fill every batch. Parked entries neither pass nor block.
+     */
+    @Query(value = "select o from ReleaseOutbox o where o.parkedAt is null "
+            + "and (o.nextAttemptAt is null or o.nextAttemptAt <= :now) "
+            + "and not exists (select p.id from ReleaseOutbox p where p.id < o.id and p.parkedAt is null "
+            + "and p.nextAttemptAt is not null and (p.userId = o.userId or p.userId is null or o.userId is null)) "
+            + "order by o.id")
+    List<ReleaseOutbox> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+}
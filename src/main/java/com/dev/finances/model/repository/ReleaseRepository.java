@@ -1,38 +1,99 @@
 package com.dev.finances.model.repository;
 
+import com.dev.finances.api.dto.BalanceSummaryDTO;
+import com.dev.finances.api.dto.ReleaseFingerprintDTO;
+import com.dev.finances.api.dto.ReleaseStateDTO;
 import com.dev.finances.api.dto.ReleasesDTO;
 import com.dev.finances.model.entity.Release;
 import com.dev.finances.model.enums.ReleaseStatusEnum;
-import com.dev.finances.model.enums.ReleaseTypeEnum;
+import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ReleaseRepository extends JpaRepository<Release, Long> {
+public interface ReleaseRepository extends JpaRepository<Release, Long>, ReleaseRepositoryCustom {
 
-    String WHERE_RELEASE_TYPE_USER_AND_STATUS = " u.id = :userId and l.type = :type and l.status = :status group by u ";
-    String SELECT_COLUMNS_FIND_ALL = " select new com.dev.finances.api.dto.ReleasesDTO(l.id, l.description, l.mes, l.ano, l.value, l.user.id, l.type, l.status, l.releaseDate) ";
+    String SELECT_COLUMNS_FIND_ALL = " select new com.dev.finances.api.dto.ReleasesDTO(l.id, l.description, l.mes, l.ano, l.value, l.user.id, l.type, l.status, l.releaseDate, l.version) ";
     String WHERE_FIND_ALL = " l.user.id = :userId ";
+    String WHERE_AFTER_CURSOR = " and l.releaseDate <= :releaseDate and (l.releaseDate < :releaseDate or (l.releaseDate = :releaseDate and l.id < :id)) ";
+    String WHERE_RELEASE_DATE_IN_RANGE = " l.releaseDate >= :startDate and l.releaseDate < :endDate ";
+    String ORDER_BY_RELEASE_DATE_DESC = " order by l.releaseDate desc, l.id desc ";
 
-    @Query(value = "select sum(l.value) from Release l join l.user u where l.createAt between :startDate and :endDate and " + WHERE_RELEASE_TYPE_USER_AND_STATUS)
-    BigDecimal getBalanceByReleaseTypeUserAndStatus(
+    @Override
+    @EntityGraph(Release.WITH_USER)
+    <S extends Release> List<S> findAll(Example<S> example);
+
+    @Query(value = "select new com.dev.finances.api.dto.BalanceSummaryDTO("
+            + "sum(case when l.type = com.dev.finances.model.enums.ReleaseTypeEnum.RECEITA then l.value else 0 end), "
+            + "sum(case when l.type = com.dev.finances.model.enums.ReleaseTypeEnum.DESPESA then l.value else 0 end)) "
+            + "from Release l where l.user.id = :userId and l.status = :status and " + WHERE_RELEASE_DATE_IN_RANGE)
+    BalanceSummaryDTO getBalanceSummaryByUserAndStatus(
             @Param("userId") Long userId,
-            @Param("type") ReleaseTypeEnum type,
             @Param("status") ReleaseStatusEnum status,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate);
+            @Param("startDate") Date startDate,
+            @Param("endDate") Date endDate);
 
-    @Query(value = "select l from Release l join l.user u where u.id = :userId and l.createAt between :startDate and :endDate order by l.id desc")
-    List<Optional<Release>> lastReleases(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    @Query(value = SELECT_COLUMNS_FIND_ALL + "from Release l where " + WHERE_FIND_ALL + " and " + WHERE_RELEASE_DATE_IN_RANGE + ORDER_BY_RELEASE_DATE_DESC)
+    List<ReleasesDTO> lastReleases(
+            @Param("userId") Long userId,
+            @Param("startDate") Date startDate,
+            @Param("endDate") Date endDate,
+            Pageable pageable);
 
     @Query(value = SELECT_COLUMNS_FIND_ALL + "from Release l where " + WHERE_FIND_ALL,
             countQuery = "select count(l.id) from Release l where " + WHERE_FIND_ALL)
     Page<ReleasesDTO> findAll(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = SELECT_COLUMNS_FIND_ALL + "from Release l where " + WHERE_FIND_ALL + ORDER_BY_RELEASE_DATE_DESC)
+    List<ReleasesDTO> findFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = SELECT_COLUMNS_FIND_ALL + "from Release l where " + WHERE_FIND_ALL + WHERE_AFTER_CURSOR + ORDER_BY_RELEASE_DATE_DESC)
+    List<ReleasesDTO> findPageAfter(
+            @Param("userId") Long userId,
+            @Param("releaseDate") Date releaseDate,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Query(value = "select count(l.id) from Release l where " + WHERE_FIND_ALL)
+    long countByUser(@Param("userId") Long userId);
+
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.FLUSH_MODE, value = "COMMIT"))
+    @Query(value = " select new com.dev.finances.api.dto.ReleaseStateDTO(l.id, l.version, l.user.id, l.ano, l.mes, l.type, l.status, l.value, l.releaseDate) "
+            + "from Release l where l.id in :ids")
+    List<ReleaseStateDTO> findStatesByIds(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.FLUSH_MODE, value = "COMMIT"))
+    @Query(value = " select new com.dev.finances.api.dto.ReleaseStateDTO(l.id, l.version, l.user.id, l.ano, l.mes, l.type, l.status, l.value, l.releaseDate) "
+            + "from Release l where l.user.id = :userId and l.id in :ids")
+    List<ReleaseStateDTO> findStatesByUserAndIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Query(value = SELECT_COLUMNS_FIND_ALL + "from Release l where l.id = :id")
+    Optional<ReleasesDTO> findReleaseById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update Release l set l.status = :status, l.version = l.version + 1 where l.id = :id and l.version = :version")
+    int updateStatus(@Param("id") Long id, @Param("version") Long version, @Param("status") ReleaseStatusEnum status);
+
+    @Query(value = " select new com.dev.finances.api.dto.ReleaseFingerprintDTO(l.releaseDate, l.value, l.description) "
+            + "from Release l where " + WHERE_FIND_ALL + " and l.releaseDate between :startDate and :endDate")
+    List<ReleaseFingerprintDTO> findFingerprints(@Param("userId") Long userId, @Param("startDate") Date startDate, @Param("endDate") Date endDate);
+
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query(value = SELECT_COLUMNS_FIND_ALL + "from Release l where " + WHERE_FIND_ALL + ORDER_BY_RELEASE_DATE_DESC)
+    Stream<ReleasesDTO> streamAllByUser(@Param("userId") Long userId);
 }
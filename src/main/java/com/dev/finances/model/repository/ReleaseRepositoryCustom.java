@@ -0,0 +1,30 @@
+package com.dev.finances.model.repository;
+
+import com.dev.finances.api.dto.ReleaseStateDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface ReleaseRepositoryCustom {
+
+    void insertAll(List<Release> releases);
+
+    Page<ReleasesDTO> search(Specification<Release> specification, Pageable pageable);
+
+    List<ReleaseStateDTO> findStates(Specification<Release> specification);
+
+    /**
+     * Changes the status of each release that still has the version read in its state and returns those states.
+     */
+    List<ReleaseStateDTO> updateStatusIfUnchanged(List<ReleaseStateDTO> states, ReleaseStatusEnum status);
+
+    /**
+     * Deletes each release that still has the version read in its state and returns those states.
+     */
+    List<ReleaseStateDTO> deleteIfUnchanged(List<ReleaseStateDTO> states);
+}
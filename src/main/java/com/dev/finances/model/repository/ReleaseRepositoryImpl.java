@@ -0,0 +1,153 @@
+package com.dev.finances.model.repository;
+
+import com.dev.finances.api.dto.ReleaseStateDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Release ids come from an identity column, which keeps Hibernate from batching inserts, so bulk
+ * writes go straight through JDBC batches. Bulk changes guard every row on the version read with its
+ * state, so a release changed in between is left alone and shows up in the returned count. Searches project into {@link ReleasesDTO} (or
+ * {@link ReleaseStateDTO} for bulk changes) instead of loading entities.
+ */
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class ReleaseRepositoryImpl implements ReleaseRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT = "insert into financas.release "
+            + "(description, mes, ano, user_id, value, create_at, release_date, type, status) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_STATUS_IF_UNCHANGED = "update financas.release set status = ?, version = version + 1 "
+            + "where id = ? and version = ?";
+    private static final String DELETE_IF_UNCHANGED = "delete from financas.release where id = ? and version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public void insertAll(List<Release> releases) {
+        jdbcTemplate.batchUpdate(INSERT, releases, BATCH_SIZE, (ps, release) -> {
+            ps.setString(1, release.getDescription());
+            ps.setObject(2, release.getMes(), Types.INTEGER);
+            ps.setObject(3, release.getAno(), Types.INTEGER);
+            ps.setLong(4, release.getUser().getId());
+            ps.setBigDecimal(5, release.getValue());
+            ps.setDate(6, release.getCreateAt() == null ? null : Date.valueOf(release.getCreateAt()));
+            ps.setTimestamp(7, new Timestamp(release.getReleaseDate().getTime()));
+            ps.setString(8, release.getType().name());
+            ps.setString(9, release.getStatus() == null ? null : release.getStatus().name());
+        });
+    }
+
+    @Override
+    public Page<ReleasesDTO> search(Specification<Release> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<ReleasesDTO> query = cb.createQuery(ReleasesDTO.class);
+        Root<Release> root = query.from(Release.class);
+        query.select(cb.construct(ReleasesDTO.class,
+                root.get("id"),
+                root.get("description"),
+                root.get("mes"),
+                root.get("ano"),
+                root.get("value"),
+                root.get("user").get("id"),
+                root.get("type"),
+                root.get("status"),
+                root.get("releaseDate"),
+                root.get("version")));
+        query.where(specification.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<ReleasesDTO> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+            Root<Release> countRoot = countQuery.from(Release.class);
+            countQuery.select(cb.count(countRoot)).where(specification.toPredicate(countRoot, countQuery, cb));
+            return entityManager.createQuery(countQuery).getSingleResult();
+        });
+    }
+
+    @Override
+    public List<ReleaseStateDTO> findStates(Specification<Release> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<ReleaseStateDTO> query = cb.createQuery(ReleaseStateDTO.class);
+        Root<Release> root = query.from(Release.class);
+        query.select(cb.construct(ReleaseStateDTO.class,
+                root.get("id"),
+                root.get("version"),
+                root.get("user").get("id"),
+                root.get("ano"),
+                root.get("mes"),
+                root.get("type"),
+                root.get("status"),
+                root.get("value"),
+                root.get("releaseDate")));
+        query.where(specification.toPredicate(root, query, cb));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<ReleaseStateDTO> updateStatusIfUnchanged(List<ReleaseStateDTO> states, ReleaseStatusEnum status) {
+        entityManager.flush();
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_STATUS_IF_UNCHANGED, states, BATCH_SIZE, (ps, state) -> {
+            ps.setString(1, status.name());
+            ps.setLong(2, state.getId());
+            ps.setLong(3, state.getVersion());
+        });
+        entityManager.clear();
+        return unchanged(states, counts);
+    }
+
+    @Override
+    public List<ReleaseStateDTO> deleteIfUnchanged(List<ReleaseStateDTO> states) {
+        entityManager.flush();
+        int[][] counts = jdbcTemplate.batchUpdate(DELETE_IF_UNCHANGED, states, BATCH_SIZE, (ps, state) -> {
+            ps.setLong(1, state.getId());
+            ps.setLong(2, state.getVersion());
+        });
+        entityManager.clear();
+        return unchanged(states, counts);
+    }
+
+    // the batches answer one count per state, in order; a zero means its version no longer matched
+    private List<ReleaseStateDTO> unchanged(List<ReleaseStateDTO> states, int[][] counts) {
+        List<ReleaseStateDTO> unchanged = new ArrayList<>(states.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // drivers may answer SUCCESS_NO_INFO, which only says the statement ran
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO)
+                    unchanged.add(states.get(index));
+                index++;
+            }
+        }
+        return unchanged;
+    }
+}
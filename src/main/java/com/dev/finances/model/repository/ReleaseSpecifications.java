@@ -0,0 +1,82 @@
+package com.dev.finances.model.repository;
+
+import com.dev.finances.api.dto.ReleaseFilterDTO;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Equality and range predicates only, so every filter can be served by the (user_id, ...) indexes.
+ */
+public final class ReleaseSpecifications {
+
+    private ReleaseSpecifications() {
+    }
+
+    public static Specification<Release> of(ReleaseFilterDTO filter) {
+        Specification<Release> spec = Specification.where(byUser(filter.getUserId()));
+        if (filter.getStartDate() != null)
+            spec = spec.and(releasedFrom(filter.getStartDate()));
+        if (filter.getEndDate() != null)
+            spec = spec.and(releasedUntil(filter.getEndDate()));
+        if (filter.getType() != null)
+            spec = spec.and(ofType(filter.getType()));
+        if (filter.getStatus() != null)
+            spec = spec.and(withStatus(filter.getStatus()));
+        if (filter.getMinValue() != null)
+            spec = spec.and(valueAtLeast(filter.getMinValue()));
+        if (filter.getMaxValue() != null)
+            spec = spec.and(valueAtMost(filter.getMaxValue()));
+        if (filter.getMes() != null)
+            spec = spec.and(inMonth(filter.getMes()));
+        if (filter.getAno() != null)
+            spec = spec.and(inYear(filter.getAno()));
+        return spec;
+    }
+
+    public static Specification<Release> byUser(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<Release> releasedFrom(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<Date>get("releaseDate"), startOf(date));
+    }
+
+    public static Specification<Release> releasedUntil(LocalDate date) {
+        return (root, query, cb) -> cb.lessThan(root.<Date>get("releaseDate"), startOf(date.plusDays(1)));
+    }
+
+    public static Specification<Release> ofType(ReleaseTypeEnum type) {
+        return (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<Release> withStatus(ReleaseStatusEnum status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Release> valueAtLeast(BigDecimal value) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<BigDecimal>get("value"), value);
+    }
+
+    public static Specification<Release> valueAtMost(BigDecimal value) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.<BigDecimal>get("value"), value);
+    }
+
+    public static Specification<Release> inMonth(Integer mes) {
+        return (root, query, cb) -> cb.equal(root.get("mes"), mes);
+    }
+
+    public static Specification<Release> inYear(Integer ano) {
+        return (root, query, cb) -> cb.equal(root.get("ano"), ano);
+    }
+
+    private static Date startOf(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
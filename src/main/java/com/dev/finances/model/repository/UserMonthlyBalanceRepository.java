@@ -0,0 +1,62 @@
+package com.dev.finances.model.repository;
+
+import com.dev.finances.api.dto.BalanceSummaryDTO;
+import com.dev.finances.api.dto.CashflowMonthDTO;
+import com.dev.finances.model.entity.UserMonthlyBalance;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserMonthlyBalanceRepository extends JpaRepository<UserMonthlyBalance, Long> {
+
+    String WHERE_USER_AND_MONTH = " b.userId = :userId and b.releaseYear = :releaseYear and b.releaseMonth = :releaseMonth ";
+    String WHERE_USER_AND_PERIOD = " b.userId = :userId "
+            + "and (b.releaseYear > :fromYear or (b.releaseYear = :fromYear and b.releaseMonth >= :fromMonth)) "
+            + "and (b.releaseYear < :toYear or (b.releaseYear = :toYear and b.releaseMonth <= :toMonth)) ";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<UserMonthlyBalance> findByUserIdAndReleaseYearAndReleaseMonthAndTypeAndStatus(
+            Long userId, Integer releaseYear, Integer releaseMonth, ReleaseTypeEnum type, ReleaseStatusEnum status);
+
+    @Query(value = "select new com.dev.finances.api.dto.BalanceSummaryDTO("
+            + "sum(case when b.type = com.dev.finances.model.enums.ReleaseTypeEnum.RECEITA then b.total else 0 end), "
+            + "sum(case when b.type = com.dev.finances.model.enums.ReleaseTypeEnum.DESPESA then b.total else 0 end)) "
+            + "from UserMonthlyBalance b where b.status = :status and " + WHERE_USER_AND_MONTH)
+    BalanceSummaryDTO getBalanceSummaryByMonth(
+            @Param("userId") Long userId,
+            @Param("releaseYear") Integer releaseYear,
+            @Param("releaseMonth") Integer releaseMonth,
+            @Param("status") ReleaseStatusEnum status);
+
+    @Query(value = "select new com.dev.finances.api.dto.BalanceSummaryDTO("
+            + "sum(case when b.type = com.dev.finances.model.enums.ReleaseTypeEnum.RECEITA then b.total else 0 end), "
+            + "sum(case when b.type = com.dev.finances.model.enums.ReleaseTypeEnum.DESPESA then b.total else 0 end)) "
+            + "from UserMonthlyBalance b where b.status = :status and " + WHERE_USER_AND_PERIOD)
+    BalanceSummaryDTO getBalanceSummaryByPeriod(
+            @Param("userId") Long userId,
+            @Param("fromYear") Integer fromYear,
+            @Param("fromMonth") Integer fromMonth,
+            @Param("toYear") Integer toYear,
+            @Param("toMonth") Integer toMonth,
+            @Param("status") ReleaseStatusEnum status);
+
+    @Query(value = "select new com.dev.finances.api.dto.CashflowMonthDTO(b.releaseYear, b.releaseMonth, "
+            + "sum(case when b.type = com.dev.finances.model.enums.ReleaseTypeEnum.RECEITA then b.total else 0 end), "
+            + "sum(case when b.type = com.dev.finances.model.enums.ReleaseTypeEnum.DESPESA then b.total else 0 end)) "
+            + "from UserMonthlyBalance b where b.status = :status and " + WHERE_USER_AND_PERIOD
+            + "group by b.releaseYear, b.releaseMonth order by b.releaseYear, b.releaseMonth")
+    List<CashflowMonthDTO> getCashflow(
+            @Param("userId") Long userId,
+            @Param("fromYear") Integer fromYear,
+            @Param("fromMonth") Integer fromMonth,
+            @Param("toYear") Integer toYear,
+            @Param("toMonth") Integer toMonth,
+            @Param("status") ReleaseStatusEnum status);
+}
@@ -2,7 +2,13 @@
 
 import java.util.Optional;
 
+import javax.persistence.LockModeType;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.dev.finances.model.entity.User;
 
@@ -11,4 +17,15 @@ public interface UserRepository extends JpaRepository<User, Long>{
 	boolean existsByEmail(String email);
 	
 	Optional<User> findByEmail(String email);
+
+	@Query("select u.releaseVersion from User u where u.id = :id")
+	Optional<Long> findReleaseVersionById(@Param("id") Long id);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select u from User u where u.id = :id")
+	Optional<User> lockById(@Param("id") Long id);
+
+	@Modifying
+	@Query("update User u set u.releaseVersion = u.releaseVersion + 1 where u.id = :id")
+	int incrementReleaseVersion(@Param("id") Long id);
 }
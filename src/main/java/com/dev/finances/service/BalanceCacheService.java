@@ -0,0 +1,24 @@
+package com.dev.finances.service;
+
+import com.dev.finances.api.dto.BalanceCacheKey;
+import com.dev.finances.event.ReleaseChangedEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Totals of closed periods ({@link com.dev.finances.api.dto.DateRangeDTO#isClosed()}). They only change through
+ * back-dated writes, so implementations keep them until a committed {@link ReleaseChangedEvent} affects their key.
+ * Hits and misses are counted in {@code finances.balance.cache.gets}, tagged by {@code result}.
+ */
+public interface BalanceCacheService {
+
+	String METRIC = "finances.balance.cache.gets";
+
+	/**
+	 * Returns the cached total or computes it with {@code loader}. A value computed while a write of the same
+	 * user commits is returned but not cached.
+	 */
+	<T> T get(BalanceCacheKey key, Supplier<T> loader);
+
+	void invalidate(ReleaseChangedEvent event);
+}
@@ -0,0 +1,67 @@
+package com.dev.finances.service;
+
+import com.dev.finances.api.dto.DateRangeDTO;
+import com.dev.finances.api.dto.PeriodDTO;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.enums.PeriodTypeEnum;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Turns the {@link PeriodDTO} of a balance, extract or last releases query into dates, the same way for the
+ * blocking API and the reactive read module. Without a period, the last {@code rollingDays} days are used.
+ */
+public final class PeriodResolver {
+
+    public static final int MAX_ROLLING_DAYS = 3660;
+
+    private PeriodResolver() {
+    }
+
+    public static DateRangeDTO resolve(PeriodDTO period, int rollingDays, LocalDate today) {
+        PeriodTypeEnum type = (period == null || period.getPeriod() == null) ? PeriodTypeEnum.ULTIMOS_DIAS : period.getPeriod();
+        LocalDate start;
+        LocalDate end;
+        switch (type) {
+            case MES:
+                validateYear(period.getAno());
+                if (period.getMes() == null || period.getMes() < 1 || period.getMes() > 12)
+                    throw new BusinessException("Informe um Mês válido.");
+                YearMonth month = YearMonth.of(period.getAno(), period.getMes());
+                start = month.atDay(1);
+                end = month.atEndOfMonth();
+                break;
+            case TRIMESTRE:
+                validateYear(period.getAno());
+                if (period.getTrimestre() == null || period.getTrimestre() < 1 || period.getTrimestre() > 4)
+                    throw new BusinessException("Informe um Trimestre entre 1 e 4.");
+                start = LocalDate.of(period.getAno(), period.getTrimestre() * 3 - 2, 1);
+                end = YearMonth.from(start).plusMonths(2).atEndOfMonth();
+                break;
+            case ANO:
+                validateYear(period.getAno());
+                start = LocalDate.of(period.getAno(), 1, 1);
+                end = LocalDate.of(period.getAno(), 12, 31);
+                break;
+            case INTERVALO:
+                if (period.getStartDate() == null || period.getEndDate() == null || period.getStartDate().isAfter(period.getEndDate()))
+                    throw new BusinessException("Informe um período válido.");
+                start = period.getStartDate();
+                end = period.getEndDate();
+                break;
+            default:
+                int days = (period == null || period.getDias() == null) ? rollingDays : period.getDias();
+                if (days < 1 || days > MAX_ROLLING_DAYS)
+                    throw new BusinessException("Informe uma quantidade de dias entre 1 e " + MAX_ROLLING_DAYS + ".");
+                start = today.minusDays(days);
+                end = today;
+        }
+        return new DateRangeDTO(start, end, end.isBefore(today));
+    }
+
+    private static void validateYear(Integer ano) {
+        if (ano == null || ano < 1 || ano > 9999)
+            throw new BusinessException("Informe um Ano válido.");
+    }
+}
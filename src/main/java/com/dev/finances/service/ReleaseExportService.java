@@ -0,0 +1,11 @@
+package com.dev.finances.service;
+
+import com.dev.finances.model.enums.ExportFormatEnum;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ReleaseExportService {
+
+	void export(Long userId, ExportFormatEnum format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,17 @@
+package com.dev.finances.service;
+
+import com.dev.finances.event.ReleaseChangedEvent;
+
+public interface ReleaseOutboxService {
+
+	/**
+	 * Appends the event to the outbox; must run in the transaction of the release write.
+	 */
+	void append(ReleaseChangedEvent event);
+
+	/**
+	 * Delivers the oldest pending events to the {@link com.dev.finances.event.ReleaseOutboxConsumer}s and returns
+	 * how many were delivered.
+	 */
+	int dispatch();
+}
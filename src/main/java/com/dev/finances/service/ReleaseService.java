@@ -1,36 +1,80 @@
 package com.dev.finances.service;
 
+import com.dev.finances.api.dto.BalanceSummaryDTO;
+import com.dev.finances.api.dto.BulkCreateErrorDTO;
+import com.dev.finances.api.dto.BulkReleaseResultDTO;
+import com.dev.finances.api.dto.CashflowMonthDTO;
+import com.dev.finances.api.dto.CursorPaginatedResponseDTO;
+import com.dev.finances.api.dto.DateRangeDTO;
 import com.dev.finances.api.dto.PaginatedResponseDTO;
+import com.dev.finances.api.dto.PeriodDTO;
+import com.dev.finances.api.dto.ReleaseFilterDTO;
+import com.dev.finances.api.dto.ReleaseSelectionDTO;
 import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.api.dto.StatementChunkResultDTO;
 import com.dev.finances.model.entity.Release;
 import com.dev.finances.model.enums.ReleaseStatusEnum;
 import com.dev.finances.model.enums.ReleaseTypeEnum;
 
 import java.math.BigDecimal;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ReleaseService {
 	
 	Release save(Release release);
+
+	List<BulkCreateErrorDTO> saveAll(List<Release> releases, int firstIndex);
+
+	/**
+	 * Inserts the statement lines of a chunk that are not already stored. {@code occurrences} counts, by fingerprint,
+	 * the lines the same import has read so far; it is updated here and handed to the next chunk, so repeated lines
+	 * of one file are told apart from lines imported before.
+	 */
+	StatementChunkResultDTO importChunk(Long userId, List<Release> releases, List<Integer> lines, Map<String, Integer> occurrences);
 	
 	Release update(Release release);
 	
 	void delete(Release release);
 	
+	/**
+	 * @deprecated case-insensitive substring matching on every column; use {@link #search(ReleaseFilterDTO, Integer, Integer)}.
+	 */
+	@Deprecated
 	List<Release> find(Release releaseFilter);
+
+	PaginatedResponseDTO<ReleasesDTO> search(ReleaseFilterDTO filter, Integer page, Integer size);
 	
-	void updateStatus(Release release, ReleaseStatusEnum status);
+	ReleasesDTO updateStatus(Long id, ReleaseStatusEnum status, Long version);
+
+	BulkReleaseResultDTO updateStatus(ReleaseSelectionDTO selection, ReleaseStatusEnum status);
+
+	BulkReleaseResultDTO deleteAll(ReleaseSelectionDTO selection);
 	
 	void validate(Release release);
 	
 	Optional<Release> findById(Long id);
 	
-	BigDecimal getBalanceByUser(Long id);
+	BigDecimal getBalanceByUser(Long id, PeriodDTO period);
 
-	List<ReleasesDTO> lastReleases(Long userId);
+	BalanceSummaryDTO getBalanceSummaryByUser(Long id, PeriodDTO period);
 
-	BigDecimal getExtractByReleaseType(Long userId, ReleaseTypeEnum releaseType);
+	BalanceSummaryDTO getBalanceSummaryByMonth(Long userId, Integer releaseYear, Integer releaseMonth);
+
+	List<CashflowMonthDTO> getCashflow(Long userId, YearMonth from, YearMonth to);
+
+	List<ReleasesDTO> lastReleases(Long userId, PeriodDTO period);
+
+	BigDecimal getExtractByReleaseType(Long userId, ReleaseTypeEnum releaseType, PeriodDTO period);
+
+	/**
+	 * Resolves a requested period against today's date; a {@code null} period means the configured rolling window.
+	 */
+	DateRangeDTO resolvePeriod(PeriodDTO period);
 
 	PaginatedResponseDTO<ReleasesDTO> getReleasesPaginated(Long userId, Integer page, Integer size);
+
+	CursorPaginatedResponseDTO<ReleasesDTO> getReleasesAfter(Long userId, String after, Integer size, boolean withTotal);
 }
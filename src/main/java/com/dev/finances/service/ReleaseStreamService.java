@@ -0,0 +1,13 @@
+package com.dev.finances.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-sent events of a user's release writes: a {@code release} event with a
+ * {@link com.dev.finances.api.dto.ReleaseStreamEventDTO} per committed write, or a single {@code resync} event when
+ * the client fell too far behind and should reload (conditional GETs make that cheap).
+ */
+public interface ReleaseStreamService {
+
+	SseEmitter subscribe(Long userId);
+}
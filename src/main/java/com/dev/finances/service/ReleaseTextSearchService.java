@@ -0,0 +1,9 @@
+package com.dev.finances.service;
+
+import com.dev.finances.api.dto.PaginatedResponseDTO;
+import com.dev.finances.api.dto.ReleaseSearchHitDTO;
+
+public interface ReleaseTextSearchService {
+
+	PaginatedResponseDTO<ReleaseSearchHitDTO> search(Long userId, String text, Integer page, Integer size);
+}
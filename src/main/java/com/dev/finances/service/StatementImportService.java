@@ -0,0 +1,23 @@
+package com.dev.finances.service;
+
+import com.dev.finances.api.dto.StatementImportDTO;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.StatementFormatEnum;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface StatementImportService {
+
+	/**
+	 * Starts importing {@code file} in the background. Once this returns the import owns the file and deletes it
+	 * when it finishes; when it throws, the caller still owns it.
+	 */
+	StatementImportDTO start(User user, StatementFormatEnum format, Path file, Charset charset);
+
+	/**
+	 * The progress of an import started for {@code userId}; imports of other users are not found.
+	 */
+	Optional<StatementImportDTO> getProgress(Long userId, String id);
+}
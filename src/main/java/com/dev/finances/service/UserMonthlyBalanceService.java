@@ -0,0 +1,27 @@
+package com.dev.finances.service;
+
+import com.dev.finances.api.dto.BalanceSummaryDTO;
+import com.dev.finances.api.dto.CashflowMonthDTO;
+import com.dev.finances.api.dto.MonthlyBalanceEntryDTO;
+import com.dev.finances.model.entity.Release;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+public interface UserMonthlyBalanceService {
+
+	void register(Release release);
+
+	void registerAll(Collection<Release> releases);
+
+	void register(MonthlyBalanceEntryDTO entry);
+
+	void unregister(MonthlyBalanceEntryDTO entry);
+
+	BalanceSummaryDTO getBalanceSummaryByMonth(Long userId, Integer releaseYear, Integer releaseMonth);
+
+	BalanceSummaryDTO getBalanceSummary(Long userId, YearMonth from, YearMonth to);
+
+	List<CashflowMonthDTO> getCashflow(Long userId, YearMonth from, YearMonth to);
+}
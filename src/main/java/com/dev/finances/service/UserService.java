@@ -14,4 +14,11 @@ public interface UserService {
 	void validateEmail(String email);
 	
 	Optional<User> getById(Long id);
+
+	boolean existsById(Long id);
+
+	/**
+	 * Version of the user's releases, changed by every committed release write; empty for an unknown user.
+	 */
+	Optional<Long> getReleaseVersion(Long id);
 }
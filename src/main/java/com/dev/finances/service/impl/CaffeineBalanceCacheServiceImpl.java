@@ -0,0 +1,101 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.BalanceCacheKey;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.service.BalanceCacheService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * In-process balance cache, the default for a single node. Invalidation scans the keys and drops only those
+ * whose user, period and status the write touched. A per-user generation (striped) keeps a total computed
+ * before the write committed from being stored after the scan.
+ */
+@Service
+@ConditionalOnProperty(name = "finances.balance.cache", havingValue = "memory", matchIfMissing = true)
+public class CaffeineBalanceCacheServiceImpl implements BalanceCacheService {
+
+    private static final int STRIPES = 64;
+
+    private final Cache<BalanceCacheKey, Object> balances;
+    private final long[] generations = new long[STRIPES];
+    private final Object[] locks = new Object[STRIPES];
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public CaffeineBalanceCacheServiceImpl(MeterRegistry registry,
+                                           @Value("${finances.balance.cache.max-entries:10000}") long maxEntries,
+                                           @Value("${finances.balance.cache.ttl-minutes:60}") long ttlMinutes) {
+        this.balances = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .build();
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        this.hits = registry.counter(METRIC, "result", "hit");
+        this.misses = registry.counter(METRIC, "result", "miss");
+        Gauge.builder("finances.balance.cache.size", balances, Cache::estimatedSize).register(registry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(BalanceCacheKey key, Supplier<T> loader) {
+        Object cached = balances.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return (T) cached;
+        }
+        misses.increment();
+
+        int stripe = stripe(key.getUserId());
+        long generation;
+        synchronized (locks[stripe]) {
+            generation = generations[stripe];
+        }
+        T value = loader.get();
+        synchronized (locks[stripe]) {
+            if (value != null && generations[stripe] == generation)
+                balances.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void invalidate(ReleaseChangedEvent event) {
+        if (event.getUserId() == null) {
+            for (int i = 0; i < STRIPES; i++) {
+                synchronized (locks[i]) {
+                    generations[i]++;
+                }
+            }
+        } else {
+            int stripe = stripe(event.getUserId());
+            synchronized (locks[stripe]) {
+                generations[stripe]++;
+            }
+        }
+        balances.asMap().keySet().removeIf(key -> key.affectedBy(event));
+    }
+
+    @TransactionalEventListener
+    public void onReleaseChanged(ReleaseChangedEvent event) {
+        invalidate(event);
+    }
+
+    private int stripe(Long userId) {
+        return userId == null ? 0 : (int) Math.floorMod(userId, (long) STRIPES);
+    }
+}
@@ -0,0 +1,129 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.BalanceCacheKey;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.event.ReleaseOutboxConsumer;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.service.BalanceCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Balance cache shared by every node, stored in the {@value #CACHE_NAME} cache of the application's
+ * {@link CacheManager} (e.g. {@code spring.cache.type = redis} with {@code balanceCache} in
+ * {@code spring.cache.cache-names}). Shared caches cannot be scanned, so entries are addressed through
+ * generation tokens per user and per (user, status, year): a write replaces the tokens it affects and the
+ * old entries become unreachable until they expire. A total loaded before the write committed is stored
+ * under the old tokens and is never read.
+ * <p>
+ * The shared cache outlives any node, so besides the immediate invalidation after commit each write is also
+ * delivered through the release outbox: a node that stops between the commit and its after-commit listener
+ * would otherwise leave stale totals for every node until they expire. Replacing tokens again is harmless.
+ */
+@Service
+@ConditionalOnProperty(name = "finances.balance.cache", havingValue = "distributed")
+public class DistributedBalanceCacheServiceImpl implements BalanceCacheService, ReleaseOutboxConsumer {
+
+    public static final String CACHE_NAME = "balanceCache";
+    private static final int MAX_YEARS = 10;
+
+    private final Cache cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public DistributedBalanceCacheServiceImpl(CacheManager cacheManager, MeterRegistry registry) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        if (this.cache == null)
+            throw new IllegalStateException("Cache '" + CACHE_NAME + "' is not configured in the CacheManager.");
+        this.hits = registry.counter(METRIC, "result", "hit");
+        this.misses = registry.counter(METRIC, "result", "miss");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(BalanceCacheKey key, Supplier<T> loader) {
+        int firstYear = key.getStartDate().getYear();
+        int lastYear = key.getEndDate().getYear();
+        if (key.getUserId() == null || key.getStatus() == null || lastYear - firstYear >= MAX_YEARS)
+            return loader.get();
+
+        StringBuilder entry = new StringBuilder(key.toString()).append('@').append(token(userToken(key.getUserId())));
+        for (int year = firstYear; year <= lastYear; year++) {
+            entry.append(':').append(token(yearToken(key.getUserId(), key.getStatus(), year)));
+        }
+
+        Cache.ValueWrapper cached = cache.get(entry.toString());
+        if (cached != null && cached.get() != null) {
+            hits.increment();
+            return (T) cached.get();
+        }
+        misses.increment();
+        T value = loader.get();
+        if (value != null)
+            cache.put(entry.toString(), value);
+        return value;
+    }
+
+    @Override
+    public void invalidate(ReleaseChangedEvent event) {
+        if (event.getUserId() == null) {
+            cache.clear();
+            return;
+        }
+        if (event.getFirstDate() == null || event.getLastDate() == null
+                || event.getLastDate().getYear() - event.getFirstDate().getYear() >= MAX_YEARS) {
+            cache.put(userToken(event.getUserId()), ThreadLocalRandom.current().nextLong());
+            return;
+        }
+        Collection<ReleaseStatusEnum> statuses = event.getStatuses() == null
+                ? Arrays.asList(ReleaseStatusEnum.values()) : event.getStatuses();
+        for (ReleaseStatusEnum status : statuses) {
+            for (int year = event.getFirstDate().getYear(); year <= event.getLastDate().getYear(); year++) {
+                cache.put(yearToken(event.getUserId(), status, year), ThreadLocalRandom.current().nextLong());
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onReleaseChanged(ReleaseChangedEvent event) {
+        invalidate(event);
+    }
+
+    @Override
+    public void accept(Long outboxId, ReleaseChangedEvent event) {
+        invalidate(event);
+    }
+
+    /**
+     * Reads a generation token, creating a random one when missing: a token evicted by the shared cache
+     * must not come back with a value that old entries were stored under.
+     */
+    private Object token(String tokenKey) {
+        Cache.ValueWrapper token = cache.get(tokenKey);
+        if (token != null && token.get() != null)
+            return token.get();
+        Long created = ThreadLocalRandom.current().nextLong();
+        Cache.ValueWrapper existing = cache.putIfAbsent(tokenKey, created);
+        return (existing == null || existing.get() == null) ? created : existing.get();
+    }
+
+    private String userToken(Long userId) {
+        return "generation:" + userId;
+    }
+
+    private String yearToken(Long userId, ReleaseStatusEnum status, int year) {
+        return "generation:" + userId + ":" + status + ":" + year;
+    }
+}
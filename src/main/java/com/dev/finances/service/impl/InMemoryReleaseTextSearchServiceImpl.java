@@ -0,0 +1,81 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.PaginatedResponseDTO;
+import com.dev.finances.api.dto.ReleaseSearchHitDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.repository.ReleaseRepository;
+import com.dev.finances.service.ReleaseTextSearchService;
+import com.dev.finances.service.search.TrigramIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Text search for databases without pg_trgm (H2 in development and tests). Each user's index is
+ * built from the release table on first use, kept in a bounded cache and dropped whenever one of
+ * the user's releases changes. It covers only the user's {@code finances.search.memory.max-releases}
+ * most recent releases, which bounds both its memory and the cost of rebuilding it after a write, and
+ * a search pages through at most {@code MAX_HITS} hits; beyond that, use {@code finances.search.engine=postgres}.
+ */
+@Service
+@ConditionalOnProperty(name = "finances.search.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryReleaseTextSearchServiceImpl implements ReleaseTextSearchService {
+
+    private static final double THRESHOLD = 0.5;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_HITS = 1000;
+
+    private final ReleaseRepository repository;
+    private final Cache<Long, TrigramIndex> indexes;
+    private final int maxReleases;
+
+    @Autowired
+    public InMemoryReleaseTextSearchServiceImpl(ReleaseRepository repository,
+                                                @Value("${finances.search.memory.max-users:1000}") long maxUsers,
+                                                @Value("${finances.search.memory.max-releases:10000}") int maxReleases) {
+        this.repository = repository;
+        this.indexes = Caffeine.newBuilder().maximumSize(maxUsers).build();
+        this.maxReleases = maxReleases;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponseDTO<ReleaseSearchHitDTO> search(Long userId, String text, Integer page, Integer size) {
+        if (text == null || text.trim().isEmpty())
+            throw new BusinessException("Informe um texto para a busca.");
+        if (page == null || page < 0 || size == null || size < 1 || size > MAX_PAGE_SIZE)
+            throw new BusinessException("Informe uma página válida e um tamanho entre 1 e " + MAX_PAGE_SIZE + ".");
+        if ((long) (page + 1) * size > MAX_HITS)
+            throw new BusinessException("A busca pagina no máximo " + MAX_HITS + " resultados, refine o texto.");
+
+        PaginatedResponseDTO<ReleaseSearchHitDTO> best = indexes.get(userId, this::build).search(text, THRESHOLD, (page + 1) * size);
+        List<ReleaseSearchHitDTO> hits = best.getItems();
+        int from = Math.min(page * size, hits.size());
+        return new PaginatedResponseDTO<ReleaseSearchHitDTO>(hits.subList(from, hits.size()), best.getTotalRecords());
+    }
+
+    @TransactionalEventListener
+    public void onReleaseChanged(ReleaseChangedEvent event) {
+        if (event.getUserId() != null)
+            indexes.invalidate(event.getUserId());
+    }
+
+    private TrigramIndex build(Long userId) {
+        TrigramIndex index = new TrigramIndex();
+        try (Stream<ReleasesDTO> releases = repository.streamAllByUser(userId)) {
+            // the stream is ordered from the most recent release, so the limit keeps the newest ones
+            releases.limit(maxReleases).forEach(index::add);
+        }
+        return index;
+    }
+}
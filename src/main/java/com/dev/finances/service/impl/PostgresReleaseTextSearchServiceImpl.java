@@ -0,0 +1,69 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.PaginatedResponseDTO;
+import com.dev.finances.api.dto.ReleaseSearchHitDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.service.ReleaseTextSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Ranked, typo-tolerant search backed by the pg_trgm GIN index on release.description
+ * (db/vendor/postgresql). {@code <%} matches when word_similarity reaches pg_trgm.word_similarity_threshold.
+ */
+@Service
+@ConditionalOnProperty(name = "finances.search.engine", havingValue = "postgres")
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class PostgresReleaseTextSearchServiceImpl implements ReleaseTextSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String WHERE = " from financas.release l where l.user_id = :userId and :text <% l.description ";
+    private static final String SEARCH = "select l.id, l.description, l.mes, l.ano, l.value, l.user_id, l.type, l.status, l.release_date, l.version, "
+            + "word_similarity(:text, l.description) as score" + WHERE
+            + "order by score desc, l.id desc limit :size offset :offset";
+    private static final String COUNT = "select count(*)" + WHERE;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponseDTO<ReleaseSearchHitDTO> search(Long userId, String text, Integer page, Integer size) {
+        if (text == null || text.trim().isEmpty())
+            throw new BusinessException("Informe um texto para a busca.");
+        if (page == null || page < 0 || size == null || size < 1 || size > MAX_PAGE_SIZE)
+            throw new BusinessException("Informe uma página válida e um tamanho entre 1 e " + MAX_PAGE_SIZE + ".");
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("text", text.trim())
+                .addValue("size", size)
+                .addValue("offset", page * size);
+
+        List<ReleaseSearchHitDTO> hits = jdbcTemplate.query(SEARCH, params, (rs, row) -> new ReleaseSearchHitDTO(
+                ReleasesDTO.builder()
+                        .id(rs.getLong("id"))
+                        .description(rs.getString("description"))
+                        .mouth((Integer) rs.getObject("mes"))
+                        .year((Integer) rs.getObject("ano"))
+                        .value(rs.getBigDecimal("value"))
+                        .userId(rs.getLong("user_id"))
+                        .type(rs.getString("type") == null ? null : ReleaseTypeEnum.valueOf(rs.getString("type")))
+                        .status(rs.getString("status") == null ? null : ReleaseStatusEnum.valueOf(rs.getString("status")))
+                        .releaseDate(rs.getTimestamp("release_date"))
+                        .version(rs.getLong("version"))
+                        .build(),
+                rs.getDouble("score")));
+        Long total = jdbcTemplate.queryForObject(COUNT, params, Long.class);
+        return new PaginatedResponseDTO<ReleaseSearchHitDTO>(hits, total);
+    }
+}
@@ -0,0 +1,95 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.enums.ExportFormatEnum;
+import com.dev.finances.model.repository.ReleaseRepository;
+import com.dev.finances.service.ReleaseExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's releases row by row from a database cursor. Rows are DTO projections, so nothing
+ * accumulates in the persistence context and heap use does not depend on the number of releases.
+ */
+@Service
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class ReleaseExportServiceImpl implements ReleaseExportService {
+
+    private static final String CSV_HEADER = "data;descricao;valor;tipo;status;mes;ano;id";
+
+    private final ReleaseRepository repository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(Long userId, ExportFormatEnum format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<ReleasesDTO> releases = repository.streamAllByUser(userId)) {
+            if (format == ExportFormatEnum.CSV) {
+                writeCsv(releases.iterator(), writer);
+            } else {
+                writeNdjson(releases.iterator(), writer);
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsv(Iterator<ReleasesDTO> releases, Writer writer) throws IOException {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (releases.hasNext()) {
+            ReleasesDTO release = releases.next();
+            writer.write(release.getReleaseDate() == null ? "" : dateFormat.format(release.getReleaseDate()));
+            writer.write(';');
+            writer.write(quote(release.getDescription()));
+            writer.write(';');
+            writer.write(release.getValue() == null ? "" : release.getValue().toPlainString());
+            writer.write(';');
+            writer.write(release.getType() == null ? "" : release.getType().name());
+            writer.write(';');
+            writer.write(release.getStatus() == null ? "" : release.getStatus().name());
+            writer.write(';');
+            writer.write(release.getMouth() == null ? "" : release.getMouth().toString());
+            writer.write(';');
+            writer.write(release.getYear() == null ? "" : release.getYear().toString());
+            writer.write(';');
+            writer.write(release.getId().toString());
+            writer.write('\n');
+        }
+    }
+
+    private void writeNdjson(Iterator<ReleasesDTO> releases, Writer writer) throws IOException {
+        ObjectWriter json = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        while (releases.hasNext()) {
+            json.writeValue(writer, releases.next());
+            writer.write('\n');
+        }
+    }
+
+    private String quote(String value) {
+        if (value == null)
+            return "";
+        if (value.indexOf(';') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,162 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.event.ReleaseOutboxConsumer;
+import com.dev.finances.model.entity.ReleaseOutbox;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.repository.ReleaseOutboxRepository;
+import com.dev.finances.service.ReleaseOutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Transactional outbox of release events. The event is stored right before the write commits, so it exists if
+ * and only if the write does, and {@link #dispatch()} later hands it to every {@link ReleaseOutboxConsumer} and
+ * deletes it. Writes of one user are serialized by the release version bump on the user row, so the outbox id
+ * follows their commit order; a failed entry blocks the following entries of the same user until its retry
+ * succeeds, while the other users keep flowing. After {@code finances.outbox.max-attempts} failures the entry is
+ * parked: it stays in the table with its last error and stops blocking the user.
+ */
+@Slf4j
+@Service
+public class ReleaseOutboxServiceImpl implements ReleaseOutboxService {
+
+    public static final String METRIC = "finances.outbox.events";
+    private static final long MAX_BACKOFF_SECONDS = 300;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ReleaseOutboxRepository repository;
+    private final List<ReleaseOutboxConsumer> consumers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter parked;
+
+    @Autowired
+    public ReleaseOutboxServiceImpl(ReleaseOutboxRepository repository,
+                                    @Autowired(required = false) List<ReleaseOutboxConsumer> consumers,
+                                    MeterRegistry registry,
+                                    @Value("${finances.outbox.batch-size:100}") int batchSize,
+                                    @Value("${finances.outbox.max-attempts:10}") int maxAttempts) {
+        this.repository = repository;
+        this.consumers = consumers == null ? Collections.emptyList() : consumers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.delivered = registry.counter(METRIC, "result", "delivered");
+        this.failed = registry.counter(METRIC, "result", "failed");
+        this.parked = registry.counter(METRIC, "result", "parked");
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onReleaseChanged(ReleaseChangedEvent event) {
+        append(event);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(ReleaseChangedEvent event) {
+        repository.save(ReleaseOutbox.builder()
+                .userId(event.getUserId())
+                .type(event.getType())
+                .releaseId(event.getReleaseId())
+                .firstDate(event.getFirstDate())
+                .lastDate(event.getLastDate())
+                .statuses(event.getStatuses() == null ? null : event.getStatuses().stream()
+                        .map(Enum::name).sorted().collect(Collectors.joining(",")))
+                .createdAt(LocalDateTime.now())
+                .attempts(0)
+                .build());
+    }
+
+    @Override
+    public int dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReleaseOutbox> batch = repository.findDue(now, PageRequest.of(0, batchSize));
+        Set<Long> blockedUsers = new HashSet<>();
+        int count = 0;
+
+        for (ReleaseOutbox entry : batch) {
+            // an event without user touches every user, so it can neither pass nor be passed by a blocked one
+            boolean global = entry.getUserId() == null;
+            if (blockedUsers.contains(null) || (global && !blockedUsers.isEmpty()) || blockedUsers.contains(entry.getUserId()))
+                break;
+
+            if (deliver(entry, now)) {
+                count++;
+            } else {
+                blockedUsers.add(entry.getUserId());
+            }
+        }
+        return count;
+    }
+
+    private boolean deliver(ReleaseOutbox entry, LocalDateTime now) {
+        ReleaseChangedEvent event = toEvent(entry);
+        try {
+            for (ReleaseOutboxConsumer consumer : consumers) {
+                consumer.accept(entry.getId(), event);
+            }
+        } catch (RuntimeException e) {
+            int attempts = entry.getAttempts() == null ? 1 : entry.getAttempts() + 1;
+            entry.setAttempts(attempts);
+            entry.setLastError(truncate(String.valueOf(e)));
+            failed.increment();
+            if (attempts >= maxAttempts) {
+                log.error("Evento {} do outbox estacionado após {} tentativas.", entry.getId(), attempts, e);
+                entry.setParkedAt(now);
+                repository.save(entry);
+                parked.increment();
+                return false;
+            }
+            log.warn("Falha ao entregar o evento {} do outbox (tentativa {}).", entry.getId(), attempts, e);
+            entry.setNextAttemptAt(now.plusSeconds(backoffSeconds(attempts)));
+            repository.save(entry);
+            return false;
+        }
+        repository.deleteById(entry.getId());
+        delivered.increment();
+        return true;
+    }
+
+    static long backoffSeconds(int attempts) {
+        return Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts - 1, 20));
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static ReleaseChangedEvent toEvent(ReleaseOutbox entry) {
+        Set<ReleaseStatusEnum> statuses = null;
+        if (entry.getStatuses() != null) {
+            statuses = EnumSet.noneOf(ReleaseStatusEnum.class);
+            for (String status : entry.getStatuses().split(",")) {
+                if (!status.isEmpty())
+                    statuses.add(ReleaseStatusEnum.valueOf(status));
+            }
+        }
+        return new ReleaseChangedEvent(entry.getUserId(), entry.getType(), entry.getReleaseId(),
+                entry.getFirstDate(), entry.getLastDate(), statuses);
+    }
+}
@@ -1,18 +1,41 @@
 package com.dev.finances.service.impl;
 
+import com.dev.finances.api.dto.BalanceCacheKey;
+import com.dev.finances.api.dto.BalanceSummaryDTO;
+import com.dev.finances.api.dto.BulkCreateErrorDTO;
+import com.dev.finances.api.dto.BulkReleaseResultDTO;
+import com.dev.finances.api.dto.CashflowMonthDTO;
+import com.dev.finances.api.dto.CursorPaginatedResponseDTO;
+import com.dev.finances.api.dto.DateRangeDTO;
+import com.dev.finances.api.dto.MonthlyBalanceEntryDTO;
 import com.dev.finances.api.dto.PaginatedResponseDTO;
+import com.dev.finances.api.dto.PeriodDTO;
+import com.dev.finances.api.dto.ReleaseCursor;
+import com.dev.finances.api.dto.ReleaseFilterDTO;
+import com.dev.finances.api.dto.ReleaseFingerprintDTO;
+import com.dev.finances.api.dto.ReleaseSelectionDTO;
+import com.dev.finances.api.dto.ReleaseStateDTO;
 import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.api.dto.StatementChunkResultDTO;
+import com.dev.finances.event.ReleaseChangedEvent;
 import com.dev.finances.exception.BusinessException;
 import com.dev.finances.model.entity.Release;
-import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseEventTypeEnum;
 import com.dev.finances.model.enums.ReleaseStatusEnum;
 import com.dev.finances.model.enums.ReleaseTypeEnum;
 import com.dev.finances.model.repository.ReleaseRepository;
+import com.dev.finances.model.repository.ReleaseSpecifications;
+import com.dev.finances.service.BalanceCacheService;
+import com.dev.finances.service.PeriodResolver;
 import com.dev.finances.service.ReleaseService;
+import com.dev.finances.service.UserMonthlyBalanceService;
 import com.dev.finances.service.UserService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.ExampleMatcher.StringMatcher;
@@ -24,26 +47,247 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.LinkedList;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class ReleaseServiceImpl implements ReleaseService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int LAST_RELEASES_LIMIT = 50;
+    private static final int IN_CLAUSE_SIZE = 1000;
+    private static final int MAX_CASHFLOW_MONTHS = 240;
+
     private final ReleaseRepository repository;
     private final @NonNull UserService userService;
+    private final @NonNull UserMonthlyBalanceService monthlyBalanceService;
+    private final @NonNull ApplicationEventPublisher eventPublisher;
+    private final @NonNull BalanceCacheService balanceCache;
+
+    @Value("${finances.balance.rolling-days:30}")
+    private int rollingDays = 30;
 
     @Override
     @Transactional
     public Release save(Release release) {
         validate(release);
+        fillCompetence(release);
         release.setStatus(ReleaseStatusEnum.PENDENTE);
         release.setCreateAt(LocalDate.now());
-        return repository.save(release);
+        Release saved = repository.save(release);
+        monthlyBalanceService.register(saved);
+        publish(saved, ReleaseEventTypeEnum.CRIADO, Optional.empty());
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<BulkCreateErrorDTO> saveAll(List<Release> releases, int firstIndex) {
+        List<BulkCreateErrorDTO> errors = new ArrayList<>();
+        insertValid(releases, i -> firstIndex + i, errors);
+        return errors;
+    }
+
+    @Override
+    @Transactional
+    public StatementChunkResultDTO importChunk(Long userId, List<Release> releases, List<Integer> lines, Map<String, Integer> occurrences) {
+        Map<String, Integer> stored = new HashMap<>();
+        Date start = null;
+        Date end = null;
+        for (Release release : releases) {
+            if (!hasFingerprint(release))
+                continue;
+            if (start == null || release.getReleaseDate().before(start))
+                start = release.getReleaseDate();
+            if (end == null || release.getReleaseDate().after(end))
+                end = release.getReleaseDate();
+        }
+        if (start != null) {
+            repository.findFingerprints(userId, start, end).forEach(existing -> stored.merge(existing.key(), 1, Integer::sum));
+        }
+
+        List<Release> pending = new ArrayList<>(releases.size());
+        List<Integer> pendingLines = new ArrayList<>(releases.size());
+        int duplicated = 0;
+        for (int i = 0; i < releases.size(); i++) {
+            Release release = releases.get(i);
+            if (hasFingerprint(release)) {
+                // the n-th equal line of the file is a duplicate only while at least n equal releases are stored,
+                // which the lines this import inserted in earlier chunks keep true
+                String key = ReleaseFingerprintDTO.of(release).key();
+                int read = occurrences.merge(key, 1, Integer::sum);
+                if (read <= stored.getOrDefault(key, 0)) {
+                    duplicated++;
+                    continue;
+                }
+            }
+            pending.add(release);
+            pendingLines.add(lines.get(i));
+        }
+
+        List<BulkCreateErrorDTO> errors = new ArrayList<>();
+        int created = insertValid(pending, pendingLines::get, errors);
+        return new StatementChunkResultDTO(created, duplicated, errors);
+    }
+
+    private int insertValid(List<Release> releases, IntFunction<Integer> indexOf, List<BulkCreateErrorDTO> errors) {
+        List<Release> valid = new ArrayList<>(releases.size());
+        LocalDate today = LocalDate.now();
+
+        for (int i = 0; i < releases.size(); i++) {
+            Release release = releases.get(i);
+            try {
+                validate(release);
+            } catch (BusinessException e) {
+                errors.add(new BulkCreateErrorDTO(indexOf.apply(i), e.getMessage()));
+                continue;
+            }
+            fillCompetence(release);
+            release.setStatus(ReleaseStatusEnum.PENDENTE);
+            release.setCreateAt(today);
+            valid.add(release);
+        }
+
+        if (!valid.isEmpty()) {
+            repository.insertAll(valid);
+            monthlyBalanceService.registerAll(valid);
+            eventPublisher.publishEvent(changed(valid.get(0).getUser().getId(), ReleaseEventTypeEnum.CRIADO, null,
+                    valid.stream().map(Release::getReleaseDate).collect(Collectors.toList()),
+                    Collections.singleton(ReleaseStatusEnum.PENDENTE)));
+        }
+        return valid.size();
+    }
+
+    private List<ReleaseStateDTO> findStates(ReleaseSelectionDTO selection, BulkReleaseResultDTO result) {
+        if (selection.getIds() != null && !selection.getIds().isEmpty()) {
+            if (selection.getUserId() == null)
+                throw new BusinessException("Informe o Usuário dos lançamentos.");
+            Set<Long> missing = new LinkedHashSet<>(selection.getIds());
+            List<ReleaseStateDTO> states = new ArrayList<>();
+            for (List<Long> chunk : inClauses(new ArrayList<>(missing))) {
+                states.addAll(repository.findStatesByUserAndIds(selection.getUserId(), chunk));
+            }
+            states.forEach(state -> missing.remove(state.getId()));
+            missing.forEach(id -> result.reject(id, "Lançamento não encontrado na base de dados."));
+            return states;
+        }
+        if (selection.getFilter() == null || selection.getFilter().getUserId() == null)
+            throw new BusinessException("Informe os lançamentos ou um Usuário.");
+        return repository.findStates(ReleaseSpecifications.of(selection.getFilter()));
+    }
+
+    private void rejectChanged(List<ReleaseStateDTO> states, List<ReleaseStateDTO> unchanged, BulkReleaseResultDTO result, String message) {
+        if (unchanged.size() == states.size())
+            return;
+        Set<Long> applied = unchanged.stream().map(ReleaseStateDTO::getId).collect(Collectors.toSet());
+        states.stream().filter(state -> !applied.contains(state.getId())).forEach(state -> result.reject(state.getId(), message));
+    }
+
+    // keeps "in" lists under the bind-parameter limits of the databases
+    private List<List<Long>> inClauses(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private void moveInLedger(List<ReleaseStateDTO> states, ReleaseStatusEnum status) {
+        totalsByMonth(states).forEach((month, total) -> {
+            monthlyBalanceService.unregister(withValue(month, month.getStatus(), total));
+            monthlyBalanceService.register(withValue(month, status, total));
+        });
+    }
+
+    private Map<MonthlyBalanceEntryDTO, BigDecimal> totalsByMonth(List<ReleaseStateDTO> states) {
+        return states.stream().collect(Collectors.groupingBy(
+                state -> MonthlyBalanceEntryDTO.of(state.getUserId(), state.getReleaseDate(), state.getType(), state.getStatus(), null),
+                Collectors.reducing(BigDecimal.ZERO, state -> state.getValue() == null ? BigDecimal.ZERO : state.getValue(), BigDecimal::add)));
+    }
+
+    private Optional<ReleaseStateDTO> findState(Long id) {
+        return repository.findStatesByIds(Collections.singletonList(id)).stream().findFirst();
+    }
+
+    private MonthlyBalanceEntryDTO entryOf(ReleaseStateDTO state) {
+        return MonthlyBalanceEntryDTO.of(state.getUserId(), state.getReleaseDate(), state.getType(), state.getStatus(), state.getValue());
+    }
+
+    private MonthlyBalanceEntryDTO withValue(MonthlyBalanceEntryDTO month, ReleaseStatusEnum status, BigDecimal total) {
+        return new MonthlyBalanceEntryDTO(month.getUserId(), month.getReleaseYear(), month.getReleaseMonth(), month.getType(), status, total);
+    }
+
+    private void publishByUser(List<ReleaseStateDTO> states, ReleaseEventTypeEnum type, ReleaseStatusEnum status) {
+        states.stream()
+                .collect(Collectors.groupingBy(ReleaseStateDTO::getUserId, LinkedHashMap::new, Collectors.toList()))
+                .forEach((userId, userStates) -> {
+                    List<ReleaseStatusEnum> statuses = userStates.stream()
+                            .map(ReleaseStateDTO::getStatus)
+                            .collect(Collectors.toCollection(ArrayList::new));
+                    if (status != null)
+                        statuses.add(status);
+                    eventPublisher.publishEvent(changed(userId, type, null,
+                            userStates.stream().map(ReleaseStateDTO::getReleaseDate).collect(Collectors.toList()), statuses));
+                });
+    }
+
+    private void publish(Release release, ReleaseEventTypeEnum type, Optional<ReleaseStateDTO> previous) {
+        Long userId = release.getUser() == null ? null : release.getUser().getId();
+        List<Date> dates = new ArrayList<>(2);
+        List<ReleaseStatusEnum> statuses = new ArrayList<>(2);
+        dates.add(release.getReleaseDate());
+        statuses.add(release.getStatus());
+        previous.ifPresent(state -> {
+            dates.add(state.getReleaseDate());
+            statuses.add(state.getStatus());
+        });
+        eventPublisher.publishEvent(changed(userId, type, release.getId(), dates, statuses));
+    }
+
+    /**
+     * Builds the event with the span of release dates and the statuses the write touched, so derived views
+     * can tell which periods changed. Any unknown date or status widens it to every period of the user.
+     */
+    private ReleaseChangedEvent changed(Long userId, ReleaseEventTypeEnum type, Long releaseId,
+                                        Collection<Date> dates, Collection<ReleaseStatusEnum> statuses) {
+        if (dates.isEmpty() || dates.contains(null))
+            return new ReleaseChangedEvent(userId, type, releaseId);
+
+        LocalDate first = null;
+        LocalDate last = null;
+        for (Date date : dates) {
+            LocalDate day = toLocalDate(date);
+            if (first == null || day.isBefore(first))
+                first = day;
+            if (last == null || day.isAfter(last))
+                last = day;
+        }
+        Set<ReleaseStatusEnum> touched = (statuses.isEmpty() || statuses.contains(null)) ? null : EnumSet.copyOf(statuses);
+        return new ReleaseChangedEvent(userId, type, releaseId, first, last, touched);
+    }
+
+    private boolean hasFingerprint(Release release) {
+        return release.getReleaseDate() != null && release.getValue() != null && release.getDescription() != null;
     }
 
     @Override
@@ -51,14 +295,39 @@ public class ReleaseServiceImpl implements ReleaseService {
     public Release update(Release release) {
         Objects.requireNonNull(release.getId());
         validate(release);
-        return repository.save(release);
+        fillCompetence(release);
+        Optional<ReleaseStateDTO> previous = findState(release.getId());
+        // a detached release without version would be merged as a new row
+        if (release.getVersion() == null)
+            previous.map(ReleaseStateDTO::getVersion).ifPresent(release::setVersion);
+        previous.ifPresent(state -> checkStatusChange(release, state));
+        Release saved = repository.save(release);
+        previous.map(this::entryOf).ifPresent(monthlyBalanceService::unregister);
+        monthlyBalanceService.register(saved);
+        publish(saved, ReleaseEventTypeEnum.ATUALIZADO, previous);
+        return saved;
+    }
+
+    /**
+     * A generic update keeps the stored status unless it sends another one the status rules allow.
+     */
+    private void checkStatusChange(Release release, ReleaseStateDTO state) {
+        if (release.getStatus() == null || release.getStatus() == state.getStatus()) {
+            release.setStatus(state.getStatus());
+            return;
+        }
+        if (state.getStatus() == null || !state.getStatus().canChangeTo(release.getStatus()))
+            throw new BusinessException("Não é possível alterar o status do lançamento de " + state.getStatus() + " para " + release.getStatus() + ".");
     }
 
     @Override
     @Transactional
     public void delete(Release release) {
         Objects.requireNonNull(release.getId());
+        Optional<ReleaseStateDTO> previous = findState(release.getId());
+        previous.map(this::entryOf).ifPresent(monthlyBalanceService::unregister);
         repository.delete(release);
+        publish(release, ReleaseEventTypeEnum.REMOVIDO, previous);
     }
 
     @Override
@@ -73,38 +342,144 @@ public class ReleaseServiceImpl implements ReleaseService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ReleasesDTO> lastReleases(Long userId) {
-        List<ReleasesDTO> releases = new LinkedList<>();
-        repository.lastReleases(userId, LocalDate.now().minusDays(30), LocalDate.now()).forEach(release -> {
-            releases.add(convert(release.get()));
-        });
-        return releases;
+    public PaginatedResponseDTO<ReleasesDTO> search(ReleaseFilterDTO filter, Integer page, Integer size) {
+        if (filter.getUserId() == null)
+            throw new BusinessException("Informe um Usuário.");
+        if (page == null || page < 0)
+            throw new BusinessException("Informe uma página válida.");
+        if (size == null || size < 1 || size > MAX_PAGE_SIZE)
+            throw new BusinessException("Informe um tamanho de página entre 1 e " + MAX_PAGE_SIZE + ".");
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("releaseDate", "id").descending());
+        Page<ReleasesDTO> releases = repository.search(ReleaseSpecifications.of(filter), pageable);
+        return new PaginatedResponseDTO<ReleasesDTO>(releases.getContent(), releases.getTotalElements());
     }
 
     @Override
-    @Transactional
-    public BigDecimal getExtractByReleaseType(Long userId, ReleaseTypeEnum releaseType) {
-        BigDecimal extract = repository.getBalanceByReleaseTypeUserAndStatus(userId, releaseType, ReleaseStatusEnum.EFETIVADO, LocalDate.now().minusDays(30),
-                LocalDate.now());
-        return (extract == null) ? BigDecimal.ZERO : extract;
+    @Transactional(readOnly = true)
+    public List<ReleasesDTO> lastReleases(Long userId, PeriodDTO period) {
+        DateRangeDTO range = resolvePeriod(period);
+        return repository.lastReleases(userId, startOf(range), endOf(range), PageRequest.of(0, LAST_RELEASES_LIMIT));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal getExtractByReleaseType(Long userId, ReleaseTypeEnum releaseType, PeriodDTO period) {
+        DateRangeDTO range = resolvePeriod(period);
+        Supplier<BigDecimal> extract = () -> {
+            if (releaseType == null)
+                return BigDecimal.ZERO;
+            BalanceSummaryDTO summary = summarize(userId, range);
+            return (releaseType == ReleaseTypeEnum.RECEITA) ? summary.getIncome() : summary.getExpense();
+        };
+        return range.isClosed()
+                ? balanceCache.get(BalanceCacheKey.of(userId, range, releaseType, ReleaseStatusEnum.EFETIVADO), extract)
+                : extract.get();
     }
 
     @Override
     @Transactional
     public PaginatedResponseDTO<ReleasesDTO> getReleasesPaginated(Long userId, Integer page, Integer size) {
         Page<ReleasesDTO> pageReleases = Page.empty();
-        Optional<User> user = userService.getById(userId);
-        if (user.isPresent()) {
+        if (userService.existsById(userId)) {
             Pageable pageable = PageRequest.of(page, size, Sort.by("releaseDate", "id").descending());
-            pageReleases = repository.findAll(user.get().getId(), pageable);
+            pageReleases = repository.findAll(userId, pageable);
         }
         return new PaginatedResponseDTO<ReleasesDTO>(pageReleases.getContent(), pageReleases.getTotalElements());
     }
 
     @Override
-    public void updateStatus(Release release, ReleaseStatusEnum status) {
-        release.setStatus(status);
-        update(release);
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponseDTO<ReleasesDTO> getReleasesAfter(Long userId, String after, Integer size, boolean withTotal) {
+        if (size == null || size < 1 || size > MAX_PAGE_SIZE)
+            throw new BusinessException("Informe um tamanho de página entre 1 e " + MAX_PAGE_SIZE + ".");
+
+        if (!userService.existsById(userId))
+            return new CursorPaginatedResponseDTO<ReleasesDTO>(Collections.emptyList(), null, withTotal ? 0L : null);
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ReleasesDTO> releases;
+        if (after == null || after.isEmpty()) {
+            releases = repository.findFirstPage(userId, limit);
+        } else {
+            ReleaseCursor cursor = ReleaseCursor.decode(after);
+            releases = repository.findPageAfter(userId, cursor.getReleaseDate(), cursor.getId(), limit);
+        }
+
+        String nextCursor = null;
+        if (releases.size() > size) {
+            releases = releases.subList(0, size);
+            nextCursor = ReleaseCursor.of(releases.get(size - 1)).encode();
+        }
+
+        Long total = withTotal ? repository.countByUser(userId) : null;
+        return new CursorPaginatedResponseDTO<ReleasesDTO>(releases, nextCursor, total);
+    }
+
+    @Override
+    @Transactional
+    public ReleasesDTO updateStatus(Long id, ReleaseStatusEnum status, Long version) {
+        ReleaseStateDTO state = repository.findStatesByIds(Collections.singletonList(id)).stream()
+                .findFirst()
+                .orElseThrow(() -> new BusinessException("Lançamento não encontrado na base de dados."));
+        if (state.getStatus() == null || !state.getStatus().canChangeTo(status))
+            throw new BusinessException("Não é possível alterar o status do lançamento de " + state.getStatus() + " para " + status + ".");
+
+        if (repository.updateStatus(id, version == null ? state.getVersion() : version, status) == 0)
+            throw new OptimisticLockingFailureException("O lançamento foi alterado por outra operação, consulte-o novamente.");
+        moveInLedger(Collections.singletonList(state), status);
+        eventPublisher.publishEvent(changed(state.getUserId(), ReleaseEventTypeEnum.ATUALIZADO, id,
+                Collections.singletonList(state.getReleaseDate()), Arrays.asList(state.getStatus(), status)));
+        return repository.findReleaseById(id)
+                .orElseThrow(() -> new BusinessException("Lançamento não encontrado na base de dados."));
+    }
+
+    @Override
+    @Transactional
+    public BulkReleaseResultDTO updateStatus(ReleaseSelectionDTO selection, ReleaseStatusEnum status) {
+        if (status == null)
+            throw new BusinessException("Informe um status válido.");
+
+        BulkReleaseResultDTO result = new BulkReleaseResultDTO();
+        List<ReleaseStateDTO> changeable = new ArrayList<>();
+        for (ReleaseStateDTO state : findStates(selection, result)) {
+            if (state.getStatus() != null && state.getStatus().canChangeTo(status))
+                changeable.add(state);
+            else
+                result.reject(state.getId(), "Não é possível alterar o status do lançamento de " + state.getStatus() + " para " + status + ".");
+        }
+        if (changeable.isEmpty())
+            return result;
+
+        // the version guard makes a release changed concurrently drop out of the update, only that one is rejected
+        List<ReleaseStateDTO> updated = repository.updateStatusIfUnchanged(changeable, status);
+        rejectChanged(changeable, updated, result, "O lançamento foi alterado por outra operação, consulte-o novamente.");
+        if (updated.isEmpty())
+            return result;
+
+        moveInLedger(updated, status);
+        publishByUser(updated, ReleaseEventTypeEnum.ATUALIZADO, status);
+        result.apply(updated.stream().map(ReleaseStateDTO::getId).collect(Collectors.toList()));
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public BulkReleaseResultDTO deleteAll(ReleaseSelectionDTO selection) {
+        BulkReleaseResultDTO result = new BulkReleaseResultDTO();
+        List<ReleaseStateDTO> states = findStates(selection, result);
+        if (states.isEmpty())
+            return result;
+
+        List<ReleaseStateDTO> deleted = repository.deleteIfUnchanged(states);
+        rejectChanged(states, deleted, result, "O lançamento foi alterado ou removido por outra operação, consulte-o novamente.");
+        if (deleted.isEmpty())
+            return result;
+
+        totalsByMonth(deleted).forEach((month, total) -> monthlyBalanceService.unregister(withValue(month, month.getStatus(), total)));
+        publishByUser(deleted, ReleaseEventTypeEnum.REMOVIDO, null);
+        result.apply(deleted.stream().map(ReleaseStateDTO::getId).collect(Collectors.toList()));
+        return result;
     }
 
     @Override
@@ -137,32 +512,97 @@ public class ReleaseServiceImpl implements ReleaseService {
 
     @Override
     @Transactional(readOnly = true)
-    public BigDecimal getBalanceByUser(Long id) {
-        BigDecimal receitas = repository.getBalanceByReleaseTypeUserAndStatus(id, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO,
-                LocalDate.now().minusDays(30), LocalDate.now());
-        BigDecimal despesas = repository.getBalanceByReleaseTypeUserAndStatus(id, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.EFETIVADO,
-                LocalDate.now().minusDays(30), LocalDate.now());
-
-        if (receitas == null)
-            receitas = BigDecimal.ZERO;
-
-        if (despesas == null)
-            despesas = BigDecimal.ZERO;
-
-        return receitas.subtract(despesas);
-    }
-
-    private ReleasesDTO convert(Release release) {
-        return ReleasesDTO.builder()
-                .id(release.getId())
-                .description(release.getDescription())
-                .value(release.getValue())
-                .mouth(release.getMes())
-                .year(release.getAno())
-                .status(release.getStatus())
-                .type(release.getType())
-                .releaseDate(release.getReleaseDate())
-                .userId(release.getUser().getId())
-                .build();
+    public BigDecimal getBalanceByUser(Long id, PeriodDTO period) {
+        return getBalanceSummaryByUser(id, period).getNet();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BalanceSummaryDTO getBalanceSummaryByUser(Long id, PeriodDTO period) {
+        DateRangeDTO range = resolvePeriod(period);
+        Supplier<BalanceSummaryDTO> summary = () -> summarize(id, range);
+        return range.isClosed()
+                ? balanceCache.get(BalanceCacheKey.of(id, range, null, ReleaseStatusEnum.EFETIVADO), summary)
+                : summary.get();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BalanceSummaryDTO getBalanceSummaryByMonth(Long userId, Integer releaseYear, Integer releaseMonth) {
+        return monthlyBalanceService.getBalanceSummaryByMonth(userId, releaseYear, releaseMonth);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CashflowMonthDTO> getCashflow(Long userId, YearMonth from, YearMonth to) {
+        if (from == null || to == null || from.isAfter(to))
+            throw new BusinessException("Informe um período válido.");
+        if (from.plusMonths(MAX_CASHFLOW_MONTHS).isBefore(to.plusMonths(1)))
+            throw new BusinessException("Informe um período de no máximo " + MAX_CASHFLOW_MONTHS + " meses.");
+        return monthlyBalanceService.getCashflow(userId, from, to);
+    }
+
+    /**
+     * Effective totals of the range: whole months come from the monthly ledger, only the partial days at either
+     * end are summed from the releases.
+     */
+    private BalanceSummaryDTO summarize(Long userId, DateRangeDTO range) {
+        LocalDate start = range.getStartDate();
+        LocalDate end = range.getEndDate();
+        YearMonth firstMonth = YearMonth.from(start.getDayOfMonth() == 1 ? start : start.plusMonths(1));
+        YearMonth lastMonth = YearMonth.from(end.equals(YearMonth.from(end).atEndOfMonth()) ? end : end.minusMonths(1));
+        if (firstMonth.isAfter(lastMonth))
+            return summarizeReleases(userId, start, end);
+
+        BalanceSummaryDTO total = monthlyBalanceService.getBalanceSummary(userId, firstMonth, lastMonth);
+        if (start.isBefore(firstMonth.atDay(1)))
+            total = add(total, summarizeReleases(userId, start, firstMonth.atDay(1).minusDays(1)));
+        if (end.isAfter(lastMonth.atEndOfMonth()))
+            total = add(total, summarizeReleases(userId, lastMonth.atEndOfMonth().plusDays(1), end));
+        return total;
+    }
+
+    private BalanceSummaryDTO summarizeReleases(Long userId, LocalDate start, LocalDate end) {
+        BalanceSummaryDTO total = repository.getBalanceSummaryByUserAndStatus(userId, ReleaseStatusEnum.EFETIVADO,
+                startOf(start), startOf(end.plusDays(1)));
+        return (total == null) ? new BalanceSummaryDTO(BigDecimal.ZERO, BigDecimal.ZERO) : total;
+    }
+
+    private BalanceSummaryDTO add(BalanceSummaryDTO first, BalanceSummaryDTO second) {
+        return new BalanceSummaryDTO(first.getIncome().add(second.getIncome()), first.getExpense().add(second.getExpense()));
+    }
+
+    @Override
+    public DateRangeDTO resolvePeriod(PeriodDTO period) {
+        return PeriodResolver.resolve(period, rollingDays, LocalDate.now());
+    }
+
+    private Date startOf(DateRangeDTO range) {
+        return startOf(range.getStartDate());
+    }
+
+    private Date endOf(DateRangeDTO range) {
+        return startOf(range.getEndDate().plusDays(1));
+    }
+
+    private Date startOf(LocalDate day) {
+        return Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private void fillCompetence(Release release) {
+        if (release.getMes() != null && release.getAno() != null)
+            return;
+
+        LocalDate releaseDate = toLocalDate(release.getReleaseDate());
+        if (release.getMes() == null)
+            release.setMes(releaseDate.getMonthValue());
+        if (release.getAno() == null)
+            release.setAno(releaseDate.getYear());
+    }
+
+    private LocalDate toLocalDate(Date date) {
+        return Instant.ofEpochMilli(date.getTime())
+                .atZone(ZoneId.systemDefault())
+                .toLocalDate();
     }
 }
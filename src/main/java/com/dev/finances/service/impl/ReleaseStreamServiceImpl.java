@@ -0,0 +1,237 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.BalanceSummaryDTO;
+import com.dev.finances.api.dto.ReleaseStreamEventDTO;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.service.ReleaseStreamService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed release writes to the user's open streams. The balance is computed once per write, on the
+ * stream executor and only when the user has subscribers, so writes never wait for it. Writes of a user are
+ * queued and pushed by at most one task at a time, so the streams receive them in commit order. Each connection
+ * also has a bounded queue drained by at most one task at a time; whenever one of these queues fills up, its
+ * pending events are replaced by a {@code resync}, so a burst of writes or a slow reader costs a fixed amount of
+ * memory.
+ */
+@Slf4j
+@Service
+public class ReleaseStreamServiceImpl implements ReleaseStreamService {
+
+    static final String RELEASE_EVENT = "release";
+    static final String RESYNC_EVENT = "resync";
+    private static final ReleaseStreamEventDTO RESYNC = new ReleaseStreamEventDTO();
+
+    private final ReleaseService releaseService;
+    private final TaskExecutor executor;
+    private final int bufferSize;
+    private final int maxPerUser;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final Map<Long, UserStream> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    @Autowired
+    public ReleaseStreamServiceImpl(ReleaseService releaseService,
+                                    @Qualifier("releaseStreamExecutor") TaskExecutor executor,
+                                    @Value("${finances.stream.buffer-size:32}") int bufferSize,
+                                    @Value("${finances.stream.max-per-user:5}") int maxPerUser,
+                                    @Value("${finances.stream.max-subscribers:1000}") int maxSubscribers,
+                                    @Value("${finances.stream.timeout-ms:1800000}") long timeoutMillis) {
+        this.releaseService = releaseService;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.maxPerUser = maxPerUser;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public SseEmitter subscribe(Long userId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException("Há muitas conexões abertas, tente novamente em instantes.");
+        }
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        try {
+            streams.compute(userId, (id, current) -> {
+                UserStream stream = (current == null) ? new UserStream() : current;
+                if (stream.subscribers.size() >= maxPerUser)
+                    throw new BusinessException("O usuário já possui " + maxPerUser + " conexões abertas.");
+                stream.subscribers.add(subscriber);
+                return stream;
+            });
+        } catch (BusinessException e) {
+            subscriberCount.decrementAndGet();
+            throw e;
+        }
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onReleaseChanged(ReleaseChangedEvent event) {
+        UserStream stream = (event.getUserId() == null) ? null : streams.get(event.getUserId());
+        if (stream != null)
+            stream.offer(event);
+    }
+
+    int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void remove(Subscriber subscriber) {
+        streams.computeIfPresent(subscriber.userId, (id, stream) -> {
+            if (stream.subscribers.remove(subscriber))
+                subscriberCount.decrementAndGet();
+            return stream.subscribers.isEmpty() ? null : stream;
+        });
+    }
+
+    private final class UserStream {
+
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final BlockingQueue<ReleaseChangedEvent> events = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean resync = new AtomicBoolean();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private void offer(ReleaseChangedEvent event) {
+            if (!events.offer(event)) {
+                events.clear();
+                resync.set(true);
+                events.offer(event);
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (!draining.compareAndSet(false, true))
+                return;
+            try {
+                executor.execute(this::push);
+            } catch (TaskRejectedException e) {
+                // no task will compute the queued writes; tell the clients to reload instead, still in order
+                events.clear();
+                resync.set(false);
+                publish(RESYNC);
+                draining.set(false);
+            }
+        }
+
+        private void push() {
+            try {
+                while (true) {
+                    if (resync.getAndSet(false)) {
+                        publish(RESYNC);
+                        continue;
+                    }
+                    ReleaseChangedEvent event = events.poll();
+                    if (event == null)
+                        break;
+                    publish(message(event));
+                }
+            } finally {
+                draining.set(false);
+            }
+            if (resync.get() || !events.isEmpty())
+                drain();
+        }
+
+        private ReleaseStreamEventDTO message(ReleaseChangedEvent event) {
+            try {
+                BalanceSummaryDTO balance = releaseService.getBalanceSummaryByUser(event.getUserId(), null);
+                return new ReleaseStreamEventDTO(event.getType(), event.getReleaseId(), balance);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao calcular o saldo do usuário {} para o stream", event.getUserId(), e);
+                return RESYNC;
+            }
+        }
+
+        private void publish(ReleaseStreamEventDTO message) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(message);
+            }
+        }
+    }
+
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<ReleaseStreamEventDTO> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void offer(ReleaseStreamEventDTO message) {
+            if (!queue.offer(message)) {
+                queue.clear();
+                queue.offer(RESYNC);
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (!draining.compareAndSet(false, true))
+                return;
+            try {
+                executor.execute(this::send);
+            } catch (TaskRejectedException e) {
+                // the queued events stay bounded and are sent by the next offer
+                draining.set(false);
+            }
+        }
+
+        private void send() {
+            try {
+                ReleaseStreamEventDTO message;
+                while ((message = queue.poll()) != null) {
+                    emitter.send(SseEmitter.event()
+                            .name(message == RESYNC ? RESYNC_EVENT : RELEASE_EVENT)
+                            .data(message));
+                }
+            } catch (IOException | IllegalStateException e) {
+                queue.clear();
+                remove(this);
+                try {
+                    emitter.completeWithError(e);
+                } catch (IllegalStateException ignored) {
+                    // already completed
+                }
+            } finally {
+                draining.set(false);
+            }
+            if (!queue.isEmpty())
+                drain();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.StatementImportDTO;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.StatementFormatEnum;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.service.StatementImportService;
+import com.dev.finances.service.statement.StatementEntry;
+import com.dev.finances.service.statement.StatementParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class StatementImportServiceImpl implements StatementImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_TRACKED_IMPORTS = 200;
+
+    private final ReleaseService releaseService;
+    private final TaskExecutor executor;
+    private final Map<String, StatementImportDTO> imports = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StatementImportServiceImpl(ReleaseService releaseService,
+                                      @Qualifier("statementImportExecutor") TaskExecutor executor) {
+        this.releaseService = releaseService;
+        this.executor = executor;
+    }
+
+    @Override
+    public StatementImportDTO start(User user, StatementFormatEnum format, Path file, Charset charset) {
+        StatementImportDTO progress = new StatementImportDTO(user.getId(), format);
+        forgetFinishedImports();
+        imports.put(progress.getId(), progress);
+        try {
+            executor.execute(() -> run(progress, user, file, charset));
+        } catch (TaskRejectedException e) {
+            imports.remove(progress.getId());
+            deleteQuietly(file);
+            throw new BusinessException("Há muitas importações em andamento, tente novamente em instantes.");
+        }
+        return progress;
+    }
+
+    public void run(StatementImportDTO progress, User user, Path file, Charset charset) {
+        try (StatementParser parser = StatementParser.of(progress.getFormat(), Files.newBufferedReader(file, charset))) {
+            List<Release> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<Integer> lines = new ArrayList<>(CHUNK_SIZE);
+            Map<String, Integer> occurrences = new HashMap<>();
+            while (parser.hasNext()) {
+                StatementEntry entry = parser.next();
+                if (!entry.isValid()) {
+                    progress.reject(entry.getLine(), entry.getError());
+                    continue;
+                }
+                entry.getRelease().setUser(user);
+                chunk.add(entry.getRelease());
+                lines.add(entry.getLine());
+                if (chunk.size() == CHUNK_SIZE) {
+                    progress.addChunk(chunk.size(), releaseService.importChunk(user.getId(), chunk, lines, occurrences));
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                    lines = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty())
+                progress.addChunk(chunk.size(), releaseService.importChunk(user.getId(), chunk, lines, occurrences));
+            progress.finish();
+        } catch (IOException | RuntimeException e) {
+            log.error("Falha ao importar extrato {}", progress.getId(), e);
+            progress.fail("Importação interrompida após " + progress.getRead() + " lançamentos lidos.");
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    @Override
+    public Optional<StatementImportDTO> getProgress(Long userId, String id) {
+        return Optional.ofNullable(imports.get(id)).filter(progress -> progress.getUserId().equals(userId));
+    }
+
+    private void forgetFinishedImports() {
+        if (imports.size() < MAX_TRACKED_IMPORTS)
+            return;
+        imports.values().removeIf(StatementImportDTO::isFinished);
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o arquivo temporário {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.BalanceSummaryDTO;
+import com.dev.finances.api.dto.CashflowMonthDTO;
+import com.dev.finances.api.dto.MonthlyBalanceEntryDTO;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.UserMonthlyBalance;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.repository.UserMonthlyBalanceRepository;
+import com.dev.finances.model.repository.UserRepository;
+import com.dev.finances.service.UserMonthlyBalanceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the per-user aggregate of releases by month of {@code releaseDate} up to date. Every method that writes
+ * joins the caller's transaction, so the ledger commits or rolls back together with the release, and first locks
+ * the user's row: a missing month row cannot be locked, so without it two writes could both insert it.
+ */
+@Service
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class UserMonthlyBalanceServiceImpl implements UserMonthlyBalanceService {
+
+    private final UserMonthlyBalanceRepository repository;
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void register(Release release) {
+        register(toEntry(release, release.getValue()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registerAll(Collection<Release> releases) {
+        Map<MonthlyBalanceEntryDTO, BigDecimal> deltas = new LinkedHashMap<>();
+        releases.forEach(release -> deltas.merge(toEntry(release, null), release.getValue(), BigDecimal::add));
+        deltas.forEach(this::apply);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void register(MonthlyBalanceEntryDTO entry) {
+        apply(entry, entry.getValue());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void unregister(MonthlyBalanceEntryDTO entry) {
+        apply(entry, entry.getValue() == null ? null : entry.getValue().negate());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BalanceSummaryDTO getBalanceSummaryByMonth(Long userId, Integer releaseYear, Integer releaseMonth) {
+        BalanceSummaryDTO summary = repository.getBalanceSummaryByMonth(userId, releaseYear, releaseMonth, ReleaseStatusEnum.EFETIVADO);
+        return (summary == null) ? new BalanceSummaryDTO(BigDecimal.ZERO, BigDecimal.ZERO) : summary;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BalanceSummaryDTO getBalanceSummary(Long userId, YearMonth from, YearMonth to) {
+        BalanceSummaryDTO summary = repository.getBalanceSummaryByPeriod(userId, from.getYear(), from.getMonthValue(),
+                to.getYear(), to.getMonthValue(), ReleaseStatusEnum.EFETIVADO);
+        return (summary == null) ? new BalanceSummaryDTO(BigDecimal.ZERO, BigDecimal.ZERO) : summary;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CashflowMonthDTO> getCashflow(Long userId, YearMonth from, YearMonth to) {
+        Map<YearMonth, CashflowMonthDTO> months = new LinkedHashMap<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.put(month, new CashflowMonthDTO(month.getYear(), month.getMonthValue(), BigDecimal.ZERO, BigDecimal.ZERO));
+        }
+        repository.getCashflow(userId, from.getYear(), from.getMonthValue(), to.getYear(), to.getMonthValue(), ReleaseStatusEnum.EFETIVADO)
+                .forEach(month -> months.put(YearMonth.of(month.getReleaseYear(), month.getReleaseMonth()), month));
+        return new ArrayList<>(months.values());
+    }
+
+    private void apply(MonthlyBalanceEntryDTO entry, BigDecimal delta) {
+        if (!isComplete(entry) || delta == null || delta.signum() == 0)
+            return;
+
+        userRepository.lockById(entry.getUserId());
+        UserMonthlyBalance balance = repository
+                .findByUserIdAndReleaseYearAndReleaseMonthAndTypeAndStatus(entry.getUserId(), entry.getReleaseYear(), entry.getReleaseMonth(),
+                        entry.getType(), entry.getStatus())
+                .orElseGet(() -> UserMonthlyBalance.builder()
+                        .userId(entry.getUserId())
+                        .releaseYear(entry.getReleaseYear())
+                        .releaseMonth(entry.getReleaseMonth())
+                        .type(entry.getType())
+                        .status(entry.getStatus())
+                        .total(BigDecimal.ZERO)
+                        .build());
+
+        balance.setTotal(balance.getTotal().add(delta));
+        repository.save(balance);
+    }
+
+    private MonthlyBalanceEntryDTO toEntry(Release release, BigDecimal value) {
+        return MonthlyBalanceEntryDTO.of(release.getUser() == null ? null : release.getUser().getId(),
+                release.getReleaseDate(), release.getType(), release.getStatus(), value);
+    }
+
+    private boolean isComplete(MonthlyBalanceEntryDTO entry) {
+        return entry.getUserId() != null
+                && entry.getReleaseYear() != null
+                && entry.getReleaseMonth() != null
+                && entry.getType() != null
+                && entry.getStatus() != null;
+    }
+}
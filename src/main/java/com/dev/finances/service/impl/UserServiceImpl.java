@@ -3,8 +3,17 @@ package com.dev.finances.service.impl;
 import java.util.Optional;
 
 import com.dev.finances.api.dto.UserAuthenticated;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.config.CacheConfig;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.dev.finances.exception.AuthenticationException;
 import com.dev.finances.exception.BusinessException;
@@ -43,6 +52,7 @@ public class UserServiceImpl implements UserService {
 
 	@Override
 	@Transactional
+	@CachePut(value = CacheConfig.USERS, key = "#result.id")
 	public User save(User user) {
 		validateEmail(user.getEmail());
 		return repository.save(user);
@@ -57,8 +67,31 @@ public class UserServiceImpl implements UserService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
+	@Cacheable(value = CacheConfig.USERS, unless = "#result == null")
 	public Optional<User> getById(Long id) {
-		return repository.findById(id);
+		// a release loaded in the same session hands back its lazy user proxy, which must not outlive it in the cache
+		return repository.findById(id).map(user -> (User) Hibernate.unproxy(user));
+	}
+
+	@Override
+	@Cacheable(value = CacheConfig.USER_EXISTS, unless = "!#result")
+	public boolean existsById(Long id) {
+		return repository.existsById(id);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<Long> getReleaseVersion(Long id) {
+		return repository.findReleaseVersionById(id);
+	}
+
+	// runs first: the row lock taken here serializes the user's writes before the outbox entry is inserted
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void onReleaseChanged(ReleaseChangedEvent event) {
+		if (event.getUserId() != null)
+			repository.incrementReleaseVersion(event.getUserId());
 	}
 
 }
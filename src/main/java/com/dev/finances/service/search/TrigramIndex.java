@@ -0,0 +1,72 @@
+package com.dev.finances.service.search;
+
+import com.dev.finances.api.dto.PaginatedResponseDTO;
+import com.dev.finances.api.dto.ReleaseSearchHitDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Inverted index from description trigrams to releases of a single user. Scores follow pg_trgm's
+ * word_similarity closely enough for typo-tolerant matching: the share of the query's trigrams
+ * found in the description.
+ */
+public class TrigramIndex {
+
+    private static final Comparator<ReleaseSearchHitDTO> BEST_FIRST = Comparator.comparing(ReleaseSearchHitDTO::getScore).reversed()
+            .thenComparing(hit -> hit.getRelease().getId(), Comparator.reverseOrder());
+
+    private final Map<String, List<ReleasesDTO>> postings = new HashMap<>();
+
+    public void add(ReleasesDTO release) {
+        for (String trigram : Trigrams.of(release.getDescription())) {
+            postings.computeIfAbsent(trigram, key -> new ArrayList<>()).add(release);
+        }
+    }
+
+    /**
+     * The best {@code limit} hits, best first, with the number of all releases above the threshold. Only the kept
+     * hits are ordered, in a heap of {@code limit} entries, so a broad query does not sort every match.
+     */
+    public PaginatedResponseDTO<ReleaseSearchHitDTO> search(String text, double threshold, int limit) {
+        Set<String> query = Trigrams.of(text);
+        if (query.isEmpty())
+            return new PaginatedResponseDTO<>(new ArrayList<>(), 0L);
+
+        Map<ReleasesDTO, Integer> matches = new IdentityHashMap<>();
+        for (String trigram : query) {
+            for (ReleasesDTO release : postings.getOrDefault(trigram, Collections.emptyList())) {
+                matches.merge(release, 1, Integer::sum);
+            }
+        }
+
+        // the heap's head is the worst kept hit, the one a better match replaces
+        PriorityQueue<ReleaseSearchHitDTO> best = new PriorityQueue<>(BEST_FIRST.reversed());
+        long total = 0;
+        for (Map.Entry<ReleasesDTO, Integer> match : matches.entrySet()) {
+            double score = (double) match.getValue() / query.size();
+            if (score < threshold)
+                continue;
+            total++;
+            ReleaseSearchHitDTO hit = new ReleaseSearchHitDTO(match.getKey(), score);
+            if (best.size() < limit) {
+                best.add(hit);
+            } else if (limit > 0 && BEST_FIRST.compare(hit, best.peek()) < 0) {
+                best.poll();
+                best.add(hit);
+            }
+        }
+
+        List<ReleaseSearchHitDTO> hits = new ArrayList<>(best);
+        hits.sort(BEST_FIRST);
+        return new PaginatedResponseDTO<>(hits, total);
+    }
+}
@@ -0,0 +1,35 @@
+package com.dev.finances.service.search;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits text into trigrams the way PostgreSQL's pg_trgm does: lower case, accents removed, every
+ * word padded with two spaces in front and one behind.
+ */
+public final class Trigrams {
+
+    private Trigrams() {
+    }
+
+    public static Set<String> of(String text) {
+        Set<String> trigrams = new HashSet<>();
+        if (text == null)
+            return trigrams;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+        for (String word : normalized.split("[^\\p{Alnum}]+")) {
+            if (word.isEmpty())
+                continue;
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}
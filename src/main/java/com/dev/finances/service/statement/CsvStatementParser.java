@@ -0,0 +1,123 @@
+package com.dev.finances.service.statement;
+
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Columns: data; descrição; valor; tipo (optional). The delimiter may be ';' or ',', dates may be
+ * ISO (2020-01-31) or dd/MM/yyyy, and without a tipo column a negative valor means DESPESA.
+ * A first line whose date doesn't parse is treated as a header. Values may be quoted as in RFC 4180, with
+ * doubled quotes inside and line breaks kept (as \n), so the CSV export reads back as it was written.
+ */
+public class CsvStatementParser extends StatementParser {
+
+    private static final DateTimeFormatter BR_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private int line;
+    private int recordLine;
+    private Character delimiter;
+
+    public CsvStatementParser(BufferedReader reader) {
+        super(reader);
+    }
+
+    @Override
+    protected StatementEntry readNext() throws IOException {
+        String raw;
+        while ((raw = readRecord()) != null) {
+            if (raw.trim().isEmpty())
+                continue;
+            if (delimiter == null)
+                delimiter = raw.indexOf(';') >= 0 ? ';' : ',';
+
+            List<String> columns = split(raw);
+            if (columns.size() < 3)
+                return StatementEntry.error(recordLine, "Linha com menos de 3 colunas.");
+
+            LocalDate date;
+            try {
+                date = parseDate(columns.get(0));
+            } catch (DateTimeParseException e) {
+                if (recordLine == 1)
+                    continue;
+                return StatementEntry.error(recordLine, "Data inválida: " + columns.get(0));
+            }
+
+            try {
+                ReleaseTypeEnum type = columns.size() > 3 && !columns.get(3).trim().isEmpty()
+                        ? ReleaseTypeEnum.valueOf(columns.get(3).trim().toUpperCase())
+                        : null;
+                return StatementEntry.of(recordLine, release(date, columns.get(1), parseValue(columns.get(2)), type));
+            } catch (IllegalArgumentException e) {
+                return StatementEntry.error(recordLine, "Valor ou tipo inválido.");
+            }
+        }
+        return null;
+    }
+
+    // a line break inside a quoted value belongs to the value, so the record goes on until the quotes are balanced
+    private String readRecord() throws IOException {
+        String raw = reader.readLine();
+        if (raw == null)
+            return null;
+        line++;
+        recordLine = line;
+
+        int quotes = countQuotes(raw);
+        if (quotes % 2 == 0)
+            return raw;
+        StringBuilder record = new StringBuilder(raw);
+        String next;
+        while (quotes % 2 != 0 && (next = reader.readLine()) != null) {
+            line++;
+            record.append('\n').append(next);
+            quotes += countQuotes(next);
+        }
+        return record.toString();
+    }
+
+    private int countQuotes(String raw) {
+        int quotes = 0;
+        for (int i = 0; i < raw.length(); i++) {
+            if (raw.charAt(i) == '"')
+                quotes++;
+        }
+        return quotes;
+    }
+
+    private LocalDate parseDate(String raw) {
+        String value = raw.trim();
+        return value.indexOf('/') >= 0 ? LocalDate.parse(value, BR_DATE) : LocalDate.parse(value);
+    }
+
+    private List<String> split(String raw) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < raw.length() && raw.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == delimiter && !quoted) {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+}
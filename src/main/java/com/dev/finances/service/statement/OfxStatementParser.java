@@ -0,0 +1,98 @@
+package com.dev.finances.service.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads STMTTRN blocks from OFX 1.x (SGML, unclosed leaf tags) and 2.x (XML) files. The file is
+ * scanned tag by tag rather than line by line, because some banks emit the whole document on one line.
+ */
+public class OfxStatementParser extends StatementParser {
+
+    private static final String TRANSACTION = "STMTTRN";
+
+    private int line = 1;
+    private Map<String, String> transaction;
+    private int transactionLine;
+
+    public OfxStatementParser(BufferedReader reader) {
+        super(reader);
+    }
+
+    @Override
+    protected StatementEntry readNext() throws IOException {
+        String tag;
+        while ((tag = readTag()) != null) {
+            if (TRANSACTION.equals(tag)) {
+                transaction = new HashMap<>();
+                transactionLine = line;
+            } else if (("/" + TRANSACTION).equals(tag)) {
+                Map<String, String> fields = transaction;
+                transaction = null;
+                if (fields != null)
+                    return toEntry(fields);
+            } else if (transaction != null && !tag.startsWith("/")) {
+                transaction.put(tag, readText());
+            }
+        }
+        return null;
+    }
+
+    private StatementEntry toEntry(Map<String, String> fields) {
+        String posted = fields.get("DTPOSTED");
+        String amount = fields.get("TRNAMT");
+        if (posted == null || posted.length() < 8 || amount == null)
+            return StatementEntry.error(transactionLine, "Transação sem DTPOSTED ou TRNAMT.");
+
+        String description = fields.get("MEMO");
+        if (description == null || description.isEmpty())
+            description = fields.get("NAME");
+
+        try {
+            LocalDate date = LocalDate.parse(posted.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+            return StatementEntry.of(transactionLine, release(date, description, parseValue(amount), null));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return StatementEntry.error(transactionLine, "Data ou valor inválido.");
+        }
+    }
+
+    private String readTag() throws IOException {
+        int c = read();
+        while (c != -1 && c != '<') {
+            c = read();
+        }
+        if (c == -1)
+            return null;
+
+        StringBuilder tag = new StringBuilder();
+        while ((c = read()) != -1 && c != '>') {
+            tag.append((char) c);
+        }
+        return tag.toString().trim().toUpperCase();
+    }
+
+    private String readText() throws IOException {
+        StringBuilder text = new StringBuilder();
+        reader.mark(1);
+        int c;
+        while ((c = read()) != -1 && c != '<') {
+            text.append((char) c);
+            reader.mark(1);
+        }
+        if (c == '<')
+            reader.reset();
+        return text.toString().trim();
+    }
+
+    private int read() throws IOException {
+        int c = reader.read();
+        if (c == '\n')
+            line++;
+        return c;
+    }
+}
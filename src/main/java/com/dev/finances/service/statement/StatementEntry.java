@@ -0,0 +1,29 @@
+package com.dev.finances.service.statement;
+
+import com.dev.finances.model.entity.Release;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * One transaction read from a statement file: either a release draft or the reason it could not be read.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StatementEntry {
+
+    private final int line;
+    private final Release release;
+    private final String error;
+
+    public static StatementEntry of(int line, Release release) {
+        return new StatementEntry(line, release, null);
+    }
+
+    public static StatementEntry error(int line, String error) {
+        return new StatementEntry(line, null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
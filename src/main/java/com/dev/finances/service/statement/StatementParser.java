@@ -0,0 +1,106 @@
+package com.dev.finances.service.statement;
+
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.model.enums.StatementFormatEnum;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a statement one transaction at a time, so only the current entry is held in memory.
+ */
+public abstract class StatementParser implements Iterator<StatementEntry>, Closeable {
+
+    protected final BufferedReader reader;
+    private StatementEntry next;
+
+    protected StatementParser(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    public static StatementParser of(StatementFormatEnum format, BufferedReader reader) {
+        switch (format) {
+            case CSV:
+                return new CsvStatementParser(reader);
+            case OFX:
+                return new OfxStatementParser(reader);
+            default:
+                throw new IllegalArgumentException(format.name());
+        }
+    }
+
+    protected abstract StatementEntry readNext() throws IOException;
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readNext();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public StatementEntry next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        StatementEntry entry = next;
+        next = null;
+        return entry;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    protected static Release release(LocalDate date, String description, BigDecimal signedValue, ReleaseTypeEnum type) {
+        ReleaseTypeEnum releaseType = type;
+        if (releaseType == null)
+            releaseType = signedValue.signum() < 0 ? ReleaseTypeEnum.DESPESA : ReleaseTypeEnum.RECEITA;
+
+        return Release.builder()
+                .description(description == null ? null : description.trim())
+                .value(signedValue.abs())
+                .type(releaseType)
+                .releaseDate(Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant()))
+                .mes(date.getMonthValue())
+                .ano(date.getYear())
+                .build();
+    }
+
+    /**
+     * Reads 1.500,00 and 1,500.00 alike: with both separators the last one is the decimal one, and a repeated
+     * separator groups thousands. A single separator followed by exactly three digits, as in 1,500 or 1.500, could
+     * be either and is rejected instead of guessed.
+     */
+    protected static BigDecimal parseValue(String raw) {
+        String value = raw.trim().replace(" ", "");
+        int comma = value.lastIndexOf(',');
+        int dot = value.lastIndexOf('.');
+        if (comma >= 0 && dot >= 0)
+            return new BigDecimal(comma > dot ? value.replace(".", "").replace(',', '.') : value.replace(",", ""));
+        if (comma < 0 && dot < 0)
+            return new BigDecimal(value);
+
+        char separator = comma >= 0 ? ',' : '.';
+        int last = Math.max(comma, dot);
+        if (value.indexOf(separator) != last)
+            return new BigDecimal(value.replace(String.valueOf(separator), ""));
+        if (value.length() - last - 1 == 3)
+            throw new NumberFormatException("Valor ambíguo: " + raw);
+        return new BigDecimal(value.replace(separator, '.'));
+    }
+}
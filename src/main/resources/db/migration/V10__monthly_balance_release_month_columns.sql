@@ -0,0 +1,3 @@
+-- since V8 the ledger months are those of release_date, not the competence month (ano, mes) of the release
+alter table financas.user_monthly_balance rename column ano to release_year;
+alter table financas.user_monthly_balance rename column mes to release_month;
@@ -0,0 +1,30 @@
+create table financas.user (
+    id bigint generated by default as identity primary key,
+    name varchar(255),
+    email varchar(255),
+    password varchar(255)
+);
+
+create table financas.release (
+    id bigint generated by default as identity primary key,
+    description varchar(255) not null,
+    mes integer,
+    ano integer,
+    user_id bigint references financas.user (id),
+    value numeric(19, 2),
+    create_at date,
+    release_date timestamp not null,
+    type varchar(255),
+    status varchar(255)
+);
+
+create table financas.user_monthly_balance (
+    id bigint generated by default as identity primary key,
+    user_id bigint not null,
+    ano integer not null,
+    mes integer not null,
+    type varchar(255) not null,
+    status varchar(255) not null,
+    total numeric(19, 2) not null,
+    constraint uk_user_monthly_balance unique (user_id, ano, mes, type, status)
+);
@@ -0,0 +1,8 @@
+-- getBalanceByReleaseTypeUserAndStatus / getBalanceSummaryByUserAndStatus
+create index idx_release_user_status_type_create_at on financas.release (user_id, status, type, create_at);
+
+-- lastReleases
+create index idx_release_user_create_at on financas.release (user_id, create_at);
+
+-- findAll (offset pages) and findFirstPage / findPageAfter (keyset pages)
+create index idx_release_user_release_date_id on financas.release (user_id, release_date desc, id desc);
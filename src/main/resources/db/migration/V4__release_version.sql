@@ -0,0 +1,2 @@
+-- optimistic locking for Release (@Version); V3 is taken by db/vendor/postgresql
+alter table financas.release add column version bigint default 0 not null;
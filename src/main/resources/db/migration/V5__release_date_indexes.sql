@@ -0,0 +1,6 @@
+-- balance, balance summary and extract now filter on release_date instead of create_at
+drop index financas.idx_release_user_status_type_create_at;
+create index idx_release_user_status_release_date on financas.release (user_id, status, release_date);
+
+-- lastReleases now reads a release_date range ordered by release_date desc, id desc (idx_release_user_release_date_id)
+drop index financas.idx_release_user_create_at;
@@ -0,0 +1,2 @@
+-- change version of each user's releases, bumped by every release write (ETag of lists and balances)
+alter table financas.user add column release_version bigint default 0 not null;
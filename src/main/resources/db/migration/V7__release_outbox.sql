@@ -0,0 +1,14 @@
+-- release events appended in the transaction of each write, delivered and deleted by the outbox dispatcher
+create table financas.release_outbox (
+    id bigint generated by default as identity primary key,
+    user_id bigint,
+    type varchar(20) not null,
+    release_id bigint,
+    first_date date,
+    last_date date,
+    statuses varchar(100),
+    created_at timestamp not null,
+    attempts integer default 0 not null,
+    next_attempt_at timestamp,
+    last_error varchar(500)
+);
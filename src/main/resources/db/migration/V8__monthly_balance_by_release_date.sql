@@ -0,0 +1,13 @@
+-- the monthly ledger is now keyed by the month of release_date, the column the balance periods filter on
+delete from financas.user_monthly_balance;
+
+insert into financas.user_monthly_balance (user_id, ano, mes, type, status, total)
+select user_id,
+       cast(extract(year from release_date) as integer),
+       cast(extract(month from release_date) as integer),
+       type,
+       status,
+       sum(value)
+from financas.release
+where user_id is not null and type is not null and status is not null and value is not null
+group by user_id, cast(extract(year from release_date) as integer), cast(extract(month from release_date) as integer), type, status;
@@ -0,0 +1,5 @@
+-- entries that failed finances.outbox.max-attempts times are parked: kept for inspection, no longer delivered
+alter table financas.release_outbox add column parked_at timestamp;
+
+-- findDue: the pending entries of a user in id order
+create index idx_release_outbox_user_id on financas.release_outbox (user_id, id);
@@ -0,0 +1,166 @@
+package com.dev.finances.api.controller;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.service.ReleaseService;
+
+/**
+ * Not transactional on purpose: the release version of the user is bumped right before each write commits, so
+ * every write path has to actually commit for the ETag to change.
+ */
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ReleasesControllerETagTest {
+
+	static final String API = "/api/releases";
+	static final MediaType JSON = MediaType.APPLICATION_JSON;
+
+	@Autowired
+	MockMvc mvc;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	ReleaseService releaseService;
+
+	Long userId;
+	Long releaseId;
+
+	interface Escrita {
+		void executar() throws Exception;
+	}
+
+	@BeforeEach
+	public void popularLancamentos() {
+		jdbcTemplate.update("insert into financas.user (name, email, password) values ('usuario', 'etag@email.com', 'senha')");
+		userId = jdbcTemplate.queryForObject("select max(id) from financas.user", Long.class);
+		for (int i = 0; i < 3; i++) {
+			jdbcTemplate.update("insert into financas.release (description, mes, ano, user_id, value, create_at, release_date, type, status) "
+					+ "values (?, 1, 2020, ?, 10, current_date, current_timestamp, 'RECEITA', 'PENDENTE')", "lancamento " + i, userId);
+		}
+		releaseId = jdbcTemplate.queryForObject("select max(id) from financas.release where user_id = ?", Long.class, userId);
+	}
+
+	@AfterEach
+	public void removerLancamentos() {
+		jdbcTemplate.update("delete from financas.release_outbox where user_id = ?", userId);
+		jdbcTemplate.update("delete from financas.user_monthly_balance where user_id = ?", userId);
+		jdbcTemplate.update("delete from financas.release where user_id = ?", userId);
+		jdbcTemplate.update("delete from financas.user where id = ?", userId);
+	}
+
+	@Test
+	public void deveMudarOETagAoCriarUmLancamento() throws Exception {
+		deveMudarOETagApos(() -> mvc.perform(MockMvcRequestBuilders.post(API + "/create-release").contentType(JSON).content(lancamento()))
+				.andExpect(MockMvcResultMatchers.status().isCreated()));
+	}
+
+	@Test
+	public void deveMudarOETagAoCriarLancamentosEmLote() throws Exception {
+		deveMudarOETagApos(() -> mvc.perform(MockMvcRequestBuilders.post(API + "/" + userId + "/create-releases").contentType(JSON)
+				.content("[" + lancamento() + "," + lancamento() + "]"))
+				.andExpect(MockMvcResultMatchers.status().isCreated()));
+	}
+
+	@Test
+	public void deveMudarOETagAoImportarUmTrechoDeExtrato() throws Exception {
+		deveMudarOETagApos(() -> {
+			Release lancamento = Release.builder()
+					.description("extrato")
+					.value(BigDecimal.TEN)
+					.type(ReleaseTypeEnum.DESPESA)
+					.status(ReleaseStatusEnum.PENDENTE)
+					.releaseDate(new Date())
+					.user(User.builder().id(userId).build())
+					.build();
+			releaseService.importChunk(userId, Collections.singletonList(lancamento), Collections.singletonList(1), new HashMap<>());
+		});
+	}
+
+	@Test
+	public void deveMudarOETagAoAtualizarUmLancamento() throws Exception {
+		deveMudarOETagApos(() -> mvc.perform(MockMvcRequestBuilders.put(API).contentType(JSON)
+				.content(lancamento().replace("{", "{\"id\":" + releaseId + ",")))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("userId").value(userId))
+				.andExpect(MockMvcResultMatchers.jsonPath("user").doesNotExist()));
+	}
+
+	@Test
+	public void deveMudarOETagAoAlterarOStatus() throws Exception {
+		deveMudarOETagApos(() -> mvc.perform(MockMvcRequestBuilders.put(API + "/" + releaseId + "/update-status").param("status", "EFETIVADO"))
+				.andExpect(MockMvcResultMatchers.status().isOk()));
+	}
+
+	@Test
+	public void deveMudarOETagAoAlterarOStatusEmLote() throws Exception {
+		deveMudarOETagApos(() -> mvc.perform(MockMvcRequestBuilders.put(API + "/update-status").param("status", "CANCELADO")
+				.contentType(JSON).content("{\"filter\":{\"userId\":" + userId + "}}"))
+				.andExpect(MockMvcResultMatchers.status().isOk()));
+	}
+
+	@Test
+	public void deveMudarOETagAoRemoverLancamentos() throws Exception {
+		deveMudarOETagApos(() -> mvc.perform(MockMvcRequestBuilders.delete(API + "/" + releaseId))
+				.andExpect(MockMvcResultMatchers.status().isNoContent()));
+		deveMudarOETagApos(() -> mvc.perform(MockMvcRequestBuilders.post(API + "/delete-releases").contentType(JSON)
+				.content("{\"userId\":" + userId + ",\"ids\":" + Arrays.asList(releaseId - 1, releaseId - 2) + "}"))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("applied.length()").value(2)));
+	}
+
+	private void deveMudarOETagApos(Escrita escrita) throws Exception {
+		String saldo = etag("/api/user/" + userId + "/balance");
+		String ultimos = etag(API + "/last-releases/" + userId);
+
+		escrita.executar();
+
+		deveResponderComNovoETag("/api/user/" + userId + "/balance", saldo);
+		deveResponderComNovoETag(API + "/last-releases/" + userId, ultimos);
+	}
+
+	private String etag(String recurso) throws Exception {
+		return mvc.perform(MockMvcRequestBuilders.get(recurso))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+	}
+
+	private void deveResponderComNovoETag(String recurso, String etag) throws Exception {
+		mvc.perform(MockMvcRequestBuilders.get(recurso).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.not(etag)));
+	}
+
+	private String lancamento() {
+		return "{\"description\":\"mercado\",\"mouth\":1,\"year\":2020,\"value\":10.50,\"userId\":" + userId
+				+ ",\"type\":\"DESPESA\",\"status\":\"PENDENTE\",\"releaseDate\":" + System.currentTimeMillis() + "}";
+	}
+}
@@ -0,0 +1,124 @@
+package com.dev.finances.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.annotation.Transactional;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class ReleasesControllerStatementCountTest {
+
+	static final String API = "/api/releases";
+
+	@Autowired
+	MockMvc mvc;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	CacheManager cacheManager;
+
+	Long userId;
+	Long releaseId;
+	Statistics statistics;
+
+	@BeforeEach
+	public void popularLancamentos() {
+		jdbcTemplate.update("insert into financas.user (name, email, password) values ('usuario', 'usuario@email.com', 'senha')");
+		userId = jdbcTemplate.queryForObject("select max(id) from financas.user", Long.class);
+		for (int i = 0; i < 5; i++) {
+			jdbcTemplate.update("insert into financas.release (description, mes, ano, user_id, value, create_at, release_date, type, status) "
+					+ "values (?, 1, 2020, ?, 10, current_date, current_timestamp, 'RECEITA', 'PENDENTE')", "lancamento " + i, userId);
+		}
+		releaseId = jdbcTemplate.queryForObject("select max(id) from financas.release", Long.class);
+
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	public void deveBuscarUmLancamentoSemCarregarOUsuario() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.get(API + "/" + releaseId))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("userId").value(userId));
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void deveBuscarUltimosLancamentosComUmaUnicaConsulta() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.get(API + "/last-releases/" + userId))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(5));
+
+		// one statement for the user's release version (ETag), one for the releases
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	public void deveResponderNaoModificadoSemConsultarOsLancamentos() throws Exception {
+		String etag = mvc.perform(MockMvcRequestBuilders.get(API + "/last-releases/" + userId))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		statistics.clear();
+
+		mvc.perform(MockMvcRequestBuilders.get(API + "/last-releases/" + userId).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(MockMvcResultMatchers.status().isNotModified())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, etag));
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void deveResponderOSaldoNovamenteQuandoAVersaoDosLancamentosMudar() throws Exception {
+		String etag = mvc.perform(MockMvcRequestBuilders.get("/api/user/" + userId + "/balance"))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		jdbcTemplate.update("update financas.user set release_version = release_version + 1 where id = ?", userId);
+
+		mvc.perform(MockMvcRequestBuilders.get("/api/user/" + userId + "/balance").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.not(etag)));
+	}
+
+	@Test
+	public void deveBuscarLancamentosPorExemploTrazendoOUsuarioNaMesmaConsulta() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.get(API).param("userId", userId.toString()))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(5))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].user.id").value(userId));
+
+		// one statement for the user lookup, one for the releases with their user fetched
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,135 @@
+package com.dev.finances.api.controller;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.StatementFormatEnum;
+import com.dev.finances.service.ReleaseExportService;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.service.ReleaseStreamService;
+import com.dev.finances.service.ReleaseTextSearchService;
+import com.dev.finances.service.StatementImportService;
+import com.dev.finances.service.UserService;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@WebMvcTest(controllers = ReleasesController.class)
+@AutoConfigureMockMvc
+@Import(ReleaseETags.class)
+public class ReleasesControllerTest {
+
+	static final String API = "/api/releases";
+	static final MediaType JSON = MediaType.APPLICATION_JSON;
+	static final String LANCAMENTO = "{\"description\":\"mercado\",\"value\":10.50,\"type\":\"DESPESA\",\"releaseDate\":1580428800000}";
+
+	@Autowired
+	MockMvc mvc;
+
+	@MockBean
+	ReleaseService service;
+
+	@MockBean
+	UserService userService;
+
+	@MockBean
+	StatementImportService statementImportService;
+
+	@MockBean
+	ReleaseExportService exportService;
+
+	@MockBean
+	ReleaseTextSearchService textSearchService;
+
+	@MockBean
+	ReleaseStreamService streamService;
+
+	@Test
+	public void deveApagarOArquivoTemporarioQuandoAImportacaoNaoComecar() throws Exception {
+		Mockito.when(userService.getById(1l)).thenReturn(Optional.of(User.builder().id(1l).build()));
+		AtomicReference<Path> arquivo = new AtomicReference<>();
+		Mockito.when(statementImportService.start(Mockito.any(User.class), Mockito.eq(StatementFormatEnum.CSV),
+				Mockito.any(Path.class), Mockito.any(Charset.class))).thenAnswer(invocation -> {
+					arquivo.set(invocation.getArgument(2));
+					throw new BusinessException("Há muitas importações em andamento, tente novamente em instantes.");
+				});
+
+		mvc.perform(MockMvcRequestBuilders.multipart(API + "/1/import")
+				.file(new MockMultipartFile("file", "extrato.csv", "text/csv", "data;descricao;valor\n".getBytes()))
+				.param("format", "CSV"))
+				.andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+		Assertions.assertThat(arquivo.get()).isNotNull();
+		Assertions.assertThat(Files.exists(arquivo.get())).isFalse();
+	}
+
+	@Test
+	public void deveCriarTodosOsLancamentosDaLista() throws Exception {
+		Mockito.when(userService.getById(1l)).thenReturn(Optional.of(User.builder().id(1l).build()));
+		Mockito.when(service.saveAll(Mockito.anyList(), Mockito.eq(0))).thenReturn(Collections.emptyList());
+
+		mvc.perform(MockMvcRequestBuilders.post(API + "/1/create-releases").contentType(JSON).content("[" + LANCAMENTO + ", " + LANCAMENTO + "]"))
+				.andExpect(MockMvcResultMatchers.status().isCreated())
+				.andExpect(MockMvcResultMatchers.jsonPath("received").value(2))
+				.andExpect(MockMvcResultMatchers.jsonPath("created").value(2));
+	}
+
+	@Test
+	public void deveRejeitarItemQueNaoEhUmLancamento() throws Exception {
+		Mockito.when(userService.getById(1l)).thenReturn(Optional.of(User.builder().id(1l).build()));
+
+		mvc.perform(MockMvcRequestBuilders.post(API + "/1/create-releases").contentType(JSON).content("[" + LANCAMENTO + ", 5, " + LANCAMENTO + "]"))
+				.andExpect(MockMvcResultMatchers.status().isBadRequest())
+				.andExpect(MockMvcResultMatchers.jsonPath("received").value(0))
+				.andExpect(MockMvcResultMatchers.jsonPath("failure").value("Lançamento 0 em diante não pôde ser lido: o item 1 não é um lançamento."));
+
+		Mockito.verify(service, Mockito.never()).saveAll(Mockito.anyList(), Mockito.anyInt());
+	}
+
+	@Test
+	public void deveRejeitarConteudoAposOFimDaLista() throws Exception {
+		Mockito.when(userService.getById(1l)).thenReturn(Optional.of(User.builder().id(1l).build()));
+
+		mvc.perform(MockMvcRequestBuilders.post(API + "/1/create-releases").contentType(JSON).content("[" + LANCAMENTO + "] " + LANCAMENTO))
+				.andExpect(MockMvcResultMatchers.status().isBadRequest())
+				.andExpect(MockMvcResultMatchers.jsonPath("failure").value("Lançamento 0 em diante não pôde ser lido: há conteúdo após o fim da lista."));
+
+		Mockito.verify(service, Mockito.never()).saveAll(Mockito.anyList(), Mockito.anyInt());
+	}
+
+	@Test
+	public void deveResponderOLancamentoAtualizadoComANovaVersaoAoAlterarOStatus() throws Exception {
+		Mockito.when(service.updateStatus(7l, ReleaseStatusEnum.EFETIVADO, 2l)).thenReturn(
+				ReleasesDTO.builder().id(7l).status(ReleaseStatusEnum.EFETIVADO).version(3l).build());
+
+		mvc.perform(MockMvcRequestBuilders.put(API + "/7/update-status").param("status", "EFETIVADO").param("version", "2"))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("id").value(7))
+				.andExpect(MockMvcResultMatchers.jsonPath("status").value("EFETIVADO"))
+				.andExpect(MockMvcResultMatchers.jsonPath("version").value(3));
+	}
+}
@@ -0,0 +1,42 @@
+package com.dev.finances.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.dev.finances.service.ReleaseService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@SpringBootTest
+public class MetricsAspectTest {
+
+	@Autowired
+	ReleaseService service;
+
+	@Autowired
+	MeterRegistry registry;
+
+	@Test
+	public void deveMedirOServicoEAConsultaDoRepositorio() {
+		service.getBalanceSummaryByUser(1L, null);
+
+		Timer servico = registry.find(MetricsAspect.SERVICE_TIMER)
+				.tags("method", "getBalanceSummaryByUser", "exception", "none").timer();
+		Timer repositorio = registry.find(MetricsAspect.REPOSITORY_TIMER)
+				.tags("repository", "ReleaseRepository", "method", "getBalanceSummaryByUserAndStatus").timer();
+
+		assertThat(servico).isNotNull();
+		assertThat(servico.count()).isGreaterThanOrEqualTo(1);
+		assertThat(repositorio).isNotNull();
+		assertThat(repositorio.count()).isGreaterThanOrEqualTo(1);
+	}
+}
@@ -0,0 +1,63 @@
+package com.dev.finances.config;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+public class WebExecutionConfigTest {
+
+	@Test
+	public void deveExecutarEmThreadVirtualOuRecusarNaJvmSemSuporte() throws Exception {
+		if (!WebExecutionConfig.isVirtualThreadSupported()) {
+			Throwable erro = Assertions.catchThrowable(() -> WebExecutionConfig.newVirtualThreadExecutor("teste-"));
+			Assertions.assertThat(erro).isInstanceOf(IllegalStateException.class).hasMessageContaining("Java 21");
+			return;
+		}
+
+		ExecutorService executor = WebExecutionConfig.newVirtualThreadExecutor("teste-");
+		try {
+			Object virtual = executor.submit(() -> Thread.class.getMethod("isVirtual").invoke(Thread.currentThread())).get(10, TimeUnit.SECONDS);
+			String nome = executor.submit(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS);
+
+			Assertions.assertThat(virtual).isEqualTo(true);
+			Assertions.assertThat(nome).startsWith("teste-");
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void deveResponderIndisponivelQuandoNaoHouverConexaoDisponivel() throws Exception {
+		WebExecutionConfig.ConnectionUnavailableFilter filtro = new WebExecutionConfig.ConnectionUnavailableFilter();
+
+		MockHttpServletResponse recusada = new MockHttpServletResponse();
+		filtro.doFilter(new MockHttpServletRequest(), recusada, (request, response) -> {
+			throw new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+					new SQLTransientConnectionException("HikariPool-1 - Connection is not available, request timed out after 2000ms."));
+		});
+
+		Assertions.assertThat(recusada.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+		Assertions.assertThat(recusada.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+	}
+
+	@Test
+	public void deveManterOsDemaisErrosEAsRequisicoesSemBanco() throws Exception {
+		WebExecutionConfig.ConnectionUnavailableFilter filtro = new WebExecutionConfig.ConnectionUnavailableFilter();
+
+		Throwable erro = Assertions.catchThrowable(() -> filtro.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+				(request, response) -> { throw new IllegalStateException("falha"); }));
+		Assertions.assertThat(erro).isInstanceOf(IllegalStateException.class);
+
+		MockHttpServletResponse atendida = new MockHttpServletResponse();
+		filtro.doFilter(new MockHttpServletRequest(), atendida, (request, response) -> { });
+		Assertions.assertThat(atendida.getStatus()).isEqualTo(HttpStatus.OK.value());
+	}
+}
@@ -0,0 +1,73 @@
+package com.dev.finances.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.dev.finances.model.entity.ReleaseOutbox;
+import com.dev.finances.model.enums.ReleaseEventTypeEnum;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+public class ReleaseOutboxRepositoryTest {
+
+	@Autowired
+	ReleaseOutboxRepository repository;
+
+	@Autowired
+	TestEntityManager entityManager;
+
+	@Test
+	public void deveBuscarSomenteOsEventosDevidosSemPassarDeUmaFalhaAnteriorDoUsuario() {
+		LocalDateTime agora = LocalDateTime.now();
+		ReleaseOutbox aguardando = persistir(1l, agora.plusMinutes(1), null);
+		ReleaseOutbox seguinte = persistir(1l, null, null);
+		ReleaseOutbox outroUsuario = persistir(2l, null, null);
+		ReleaseOutbox vencido = persistir(3l, agora.minusMinutes(1), null);
+		ReleaseOutbox depoisDoVencido = persistir(3l, null, null);
+		ReleaseOutbox estacionado = persistir(4l, null, agora);
+		ReleaseOutbox depoisDoEstacionado = persistir(4l, null, null);
+
+		List<ReleaseOutbox> devidos = repository.findDue(agora, PageRequest.of(0, 10));
+
+		assertThat(devidos).extracting(ReleaseOutbox::getId)
+				.containsExactly(outroUsuario.getId(), vencido.getId(), depoisDoEstacionado.getId())
+				.doesNotContain(aguardando.getId(), seguinte.getId(), depoisDoVencido.getId(), estacionado.getId());
+	}
+
+	@Test
+	public void naoDeveBuscarEventosPosterioresAUmEventoGlobalAguardando() {
+		LocalDateTime agora = LocalDateTime.now();
+		ReleaseOutbox anterior = persistir(1l, null, null);
+		persistir(null, agora.plusMinutes(1), null);
+		persistir(2l, null, null);
+
+		List<ReleaseOutbox> devidos = repository.findDue(agora, PageRequest.of(0, 10));
+
+		assertThat(devidos).extracting(ReleaseOutbox::getId).containsExactly(anterior.getId());
+	}
+
+	private ReleaseOutbox persistir(Long usuario, LocalDateTime proximaTentativa, LocalDateTime estacionadoEm) {
+		return entityManager.persist(ReleaseOutbox.builder()
+				.userId(usuario)
+				.type(ReleaseEventTypeEnum.CRIADO)
+				.createdAt(LocalDateTime.now())
+				.attempts(proximaTentativa == null ? 0 : 1)
+				.nextAttemptAt(proximaTentativa)
+				.parkedAt(estacionadoEm)
+				.build());
+	}
+}
@@ -0,0 +1,107 @@
+package com.dev.finances.model.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.dev.finances.model.repository.ReleaseQueryPlanTest$StatementCapture")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+public class ReleaseQueryPlanTest {
+
+	@Autowired
+	ReleaseRepository repository;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	Long userId;
+
+	@BeforeEach
+	public void popularLancamentos() {
+		jdbcTemplate.update("insert into financas.user (name, email, password) values ('usuario', 'usuario@email.com', 'senha')");
+		userId = jdbcTemplate.queryForObject("select max(id) from financas.user", Long.class);
+
+		List<Object[]> linhas = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			linhas.add(new Object[] { "lancamento " + i, userId, i % 2 == 0 ? "RECEITA" : "DESPESA", i % 3 == 0 ? "EFETIVADO" : "PENDENTE" });
+		}
+		jdbcTemplate.batchUpdate("insert into financas.release (description, mes, ano, user_id, value, create_at, release_date, type, status) "
+				+ "values (?, 1, 2020, ?, 10, current_date, current_timestamp, ?, ?)", linhas);
+		StatementCapture.statements.clear();
+	}
+
+	@Test
+	public void deveUsarIndiceNaConsultaDeSaldoPorStatus() {
+		repository.getBalanceSummaryByUserAndStatus(userId, ReleaseStatusEnum.EFETIVADO, data(2020, 1, 1), data(2020, 2, 1));
+
+		String plano = explain(StatementCapture.last(), userId, "EFETIVADO", data(2020, 1, 1), data(2020, 2, 1));
+
+		assertThat(plano).containsIgnoringCase("idx_release_user_status_release_date");
+	}
+
+	@Test
+	public void deveUsarIndiceNaConsultaDeUltimosLancamentos() {
+		repository.lastReleases(userId, data(2020, 1, 1), data(2020, 2, 1), PageRequest.of(0, 50));
+
+		String plano = explain(StatementCapture.last(), userId, data(2020, 1, 1), data(2020, 2, 1), 50);
+
+		assertThat(plano).containsIgnoringCase("idx_release_user_release_date_id");
+	}
+
+	@Test
+	public void deveUsarIndiceNaConsultaPaginadaPorDataDeLancamento() {
+		repository.findPageAfter(userId, data(2020, 1, 31), 10l, PageRequest.of(0, 20));
+
+		String plano = explain(StatementCapture.last(), userId, data(2020, 1, 31), data(2020, 1, 31), data(2020, 1, 31), 10l, 20);
+
+		assertThat(plano).containsIgnoringCase("idx_release_user_release_date_id");
+	}
+
+	private String explain(String sql, Object... parametros) {
+		return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class, parametros));
+	}
+
+	private Date data(int ano, int mes, int dia) {
+		return Date.from(LocalDate.of(ano, mes, dia).atStartOfDay(ZoneId.systemDefault()).toInstant());
+	}
+
+	/**
+	 * Keeps the SQL Hibernate generates, so the plan asserted is the one of the repository query itself.
+	 */
+	public static class StatementCapture implements StatementInspector {
+
+		static final List<String> statements = new ArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			statements.add(sql);
+			return sql;
+		}
+
+		static String last() {
+			return statements.get(statements.size() - 1);
+		}
+	}
+}
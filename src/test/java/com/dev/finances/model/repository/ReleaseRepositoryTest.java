@@ -2,9 +2,15 @@ package com.dev.finances.model.repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,10 +18,17 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import com.dev.finances.api.dto.ReleaseFilterDTO;
+import com.dev.finances.api.dto.ReleaseStateDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
 import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
 import com.dev.finances.model.enums.ReleaseStatusEnum;
 import com.dev.finances.model.enums.ReleaseTypeEnum;
 
@@ -76,6 +89,93 @@ public class ReleaseRepositoryTest {
 		assertThat(lancamentoEncontrado.isPresent()).isTrue();
 	}
 
+	@Test
+	public void deveBuscarLancamentosPorFiltroComPaginacao() {
+		User user = entityManager.persist(UserRepositoryTest.criarUsuario());
+		persistirLancamento(user, ReleaseTypeEnum.RECEITA, BigDecimal.valueOf(100));
+		persistirLancamento(user, ReleaseTypeEnum.DESPESA, BigDecimal.valueOf(50));
+		persistirLancamento(user, ReleaseTypeEnum.DESPESA, BigDecimal.valueOf(500));
+
+		ReleaseFilterDTO filtro = ReleaseFilterDTO.builder()
+				.userId(user.getId())
+				.type(ReleaseTypeEnum.DESPESA)
+				.maxValue(BigDecimal.valueOf(1000))
+				.build();
+		Page<ReleasesDTO> pagina = repository.search(ReleaseSpecifications.of(filtro),
+				PageRequest.of(0, 1, Sort.by("releaseDate", "id").descending()));
+
+		assertThat(pagina.getTotalElements()).isEqualTo(2);
+		assertThat(pagina.getContent()).hasSize(1);
+		assertThat(pagina.getContent().get(0).getType()).isEqualTo(ReleaseTypeEnum.DESPESA);
+		assertThat(pagina.getContent().get(0).getUserId()).isEqualTo(user.getId());
+	}
+
+	@Test
+	public void deveBuscarUltimosLancamentosComUmaUnicaConsulta() {
+		User user = entityManager.persist(UserRepositoryTest.criarUsuario());
+		for (int i = 0; i < 5; i++) {
+			persistirLancamento(user, ReleaseTypeEnum.RECEITA, BigDecimal.valueOf(i));
+		}
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = estatisticas();
+
+		List<ReleasesDTO> lancamentos = repository.lastReleases(user.getId(), inicioDoDia(LocalDate.now().minusDays(30)),
+				inicioDoDia(LocalDate.now().plusDays(1)), PageRequest.of(0, 3));
+
+		assertThat(lancamentos).hasSize(3);
+		assertThat(lancamentos.get(0).getUserId()).isEqualTo(user.getId());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	public void deveAlterarOStatusEmLoteSomenteDosLancamentosComAVersaoLida() {
+		User user = entityManager.persist(UserRepositoryTest.criarUsuario());
+		Release atual = persistirLancamento(user, ReleaseTypeEnum.RECEITA, BigDecimal.ONE);
+		Release alterado = persistirLancamento(user, ReleaseTypeEnum.RECEITA, BigDecimal.TEN);
+		entityManager.flush();
+		List<ReleaseStateDTO> estados = repository.findStatesByUserAndIds(user.getId(), Arrays.asList(atual.getId(), alterado.getId()));
+		estados.stream().filter(estado -> estado.getId().equals(alterado.getId())).forEach(estado -> estado.setVersion(estado.getVersion() - 1));
+
+		List<ReleaseStateDTO> alterados = repository.updateStatusIfUnchanged(estados, ReleaseStatusEnum.EFETIVADO);
+
+		assertThat(alterados).extracting(ReleaseStateDTO::getId).containsExactly(atual.getId());
+		assertThat(entityManager.find(Release.class, atual.getId()).getStatus()).isEqualTo(ReleaseStatusEnum.EFETIVADO);
+		assertThat(entityManager.find(Release.class, alterado.getId()).getStatus()).isEqualTo(ReleaseStatusEnum.PENDENTE);
+		assertThat(repository.deleteIfUnchanged(estados)).isEmpty();
+	}
+
+	@Test
+	public void deveBuscarOsEstadosSomenteDosLancamentosDoUsuario() {
+		User dono = entityManager.persist(UserRepositoryTest.criarUsuario());
+		User outro = entityManager.persist(User.builder().name("outro").email("outro@email.com").password("senha").build());
+		Release lancamento = persistirLancamento(dono, ReleaseTypeEnum.RECEITA, BigDecimal.ONE);
+		entityManager.flush();
+
+		assertThat(repository.findStatesByUserAndIds(dono.getId(), Arrays.asList(lancamento.getId()))).hasSize(1);
+		assertThat(repository.findStatesByUserAndIds(outro.getId(), Arrays.asList(lancamento.getId()))).isEmpty();
+	}
+
+	private Date inicioDoDia(LocalDate data) {
+		return Date.from(data.atStartOfDay(ZoneId.systemDefault()).toInstant());
+	}
+
+	private Statistics estatisticas() {
+		Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+
+	private Release persistirLancamento(User user, ReleaseTypeEnum type, BigDecimal value) {
+		Release lancamento = criarLancamento();
+		lancamento.setUser(user);
+		lancamento.setType(type);
+		lancamento.setValue(value);
+		return entityManager.persist(lancamento);
+	}
+
 	private Release criarEPersistirLancamento() {
 		Release lancamento = criarLancamento();
 		entityManager.persist(lancamento);
@@ -91,6 +191,7 @@ public class ReleaseRepositoryTest {
 				.type(ReleaseTypeEnum.RECEITA)
 				.status(ReleaseStatusEnum.PENDENTE)
 				.createAt(LocalDate.now())
+				.releaseDate(new Date())
 				.build();
 	}
 }
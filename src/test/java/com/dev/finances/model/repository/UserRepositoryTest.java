@@ -77,6 +77,15 @@ public class UserRepositoryTest {
 		Assertions.assertThat(result.isPresent()).isFalse();
 	}
 	
+	@Test
+	public void deveIncrementarAVersaoDosLancamentosDoUsuario() {
+		User user = entityManager.persistAndFlush(criarUsuario());
+
+		repository.incrementReleaseVersion(user.getId());
+
+		Assertions.assertThat(repository.findReleaseVersionById(user.getId())).contains(1l);
+	}
+	
 	public static User criarUsuario() {
 		return User.builder()
 				 .name("usuario")
@@ -0,0 +1,110 @@
+package com.dev.finances.service;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.enums.ExportFormatEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.model.enums.StatementFormatEnum;
+import com.dev.finances.model.repository.ReleaseRepository;
+import com.dev.finances.service.impl.ReleaseExportServiceImpl;
+import com.dev.finances.service.statement.StatementEntry;
+import com.dev.finances.service.statement.StatementParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+public class ReleaseExportServiceTest {
+
+	@SpyBean
+	ReleaseExportServiceImpl service;
+
+	@SpyBean
+	ObjectMapper objectMapper;
+
+	@MockBean
+	ReleaseRepository repository;
+
+	@Test
+	public void deveExportarOsLancamentosEmCsv() throws Exception {
+		Mockito.when(repository.streamAllByUser(1l)).thenReturn(Stream.of(criarLancamento("Mercado; padaria")));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		service.export(1l, ExportFormatEnum.CSV, out);
+
+		Assertions.assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(
+				"data;descricao;valor;tipo;status;mes;ano;id\n"
+				+ "2020-01-31;\"Mercado; padaria\";10.50;DESPESA;EFETIVADO;1;2020;7\n");
+	}
+
+	@Test
+	public void deveColocarEntreAspasDescricaoComQuebraDeLinha() throws Exception {
+		Mockito.when(repository.streamAllByUser(1l)).thenReturn(Stream.of(criarLancamento("Mercado\rpadaria")));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		service.export(1l, ExportFormatEnum.CSV, out);
+
+		Assertions.assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8))
+				.endsWith("2020-01-31;\"Mercado\rpadaria\";10.50;DESPESA;EFETIVADO;1;2020;7\n");
+	}
+
+	@Test
+	public void deveReimportarOCsvExportado() throws Exception {
+		Mockito.when(repository.streamAllByUser(1l)).thenReturn(Stream.of(criarLancamento("Mercado\n\"padaria\"; 24h")));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		service.export(1l, ExportFormatEnum.CSV, out);
+
+		List<StatementEntry> entries = new ArrayList<>();
+		StatementParser.of(StatementFormatEnum.CSV, new BufferedReader(new StringReader(new String(out.toByteArray(), StandardCharsets.UTF_8))))
+				.forEachRemaining(entries::add);
+		Assertions.assertThat(entries).hasSize(1);
+		Assertions.assertThat(entries.get(0).getRelease().getDescription()).isEqualTo("Mercado\n\"padaria\"; 24h");
+		Assertions.assertThat(entries.get(0).getRelease().getValue()).isEqualByComparingTo(new BigDecimal("10.50"));
+		Assertions.assertThat(entries.get(0).getRelease().getType()).isEqualTo(ReleaseTypeEnum.DESPESA);
+	}
+
+	@Test
+	public void deveExportarUmLancamentoPorLinhaEmNdjson() throws Exception {
+		Mockito.when(repository.streamAllByUser(1l)).thenReturn(Stream.of(criarLancamento("Aluguel"), criarLancamento("Luz")));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		service.export(1l, ExportFormatEnum.NDJSON, out);
+
+		String[] linhas = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n");
+		Assertions.assertThat(linhas).hasSize(2);
+		Assertions.assertThat(new ObjectMapper().readTree(linhas[1]).get("description").asText()).isEqualTo("Luz");
+	}
+
+	private ReleasesDTO criarLancamento(String description) {
+		return ReleasesDTO.builder()
+				.id(7l)
+				.description(description)
+				.value(new BigDecimal("10.50"))
+				.type(ReleaseTypeEnum.DESPESA)
+				.status(ReleaseStatusEnum.EFETIVADO)
+				.mouth(1)
+				.year(2020)
+				.releaseDate(new GregorianCalendar(2020, Calendar.JANUARY, 31).getTime())
+				.build();
+	}
+}
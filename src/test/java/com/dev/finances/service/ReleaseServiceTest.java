@@ -6,7 +6,15 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -14,14 +22,34 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import com.dev.finances.api.dto.BalanceCacheKey;
+import com.dev.finances.api.dto.BalanceSummaryDTO;
+import com.dev.finances.api.dto.BulkCreateErrorDTO;
+import com.dev.finances.api.dto.BulkReleaseErrorDTO;
+import com.dev.finances.api.dto.BulkReleaseResultDTO;
+import com.dev.finances.api.dto.CursorPaginatedResponseDTO;
+import com.dev.finances.api.dto.DateRangeDTO;
+import com.dev.finances.api.dto.MonthlyBalanceEntryDTO;
+import com.dev.finances.api.dto.PeriodDTO;
+import com.dev.finances.api.dto.ReleaseCursor;
+import com.dev.finances.api.dto.ReleaseFilterDTO;
+import com.dev.finances.api.dto.ReleaseFingerprintDTO;
+import com.dev.finances.api.dto.ReleaseSelectionDTO;
+import com.dev.finances.api.dto.ReleaseStateDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.api.dto.StatementChunkResultDTO;
 import com.dev.finances.exception.BusinessException;
 import com.dev.finances.model.entity.Release;
 import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.PeriodTypeEnum;
 import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
 import com.dev.finances.model.repository.ReleaseRepository;
 import com.dev.finances.model.repository.ReleaseRepositoryTest;
 import com.dev.finances.service.impl.ReleaseServiceImpl;
@@ -30,11 +58,23 @@ import com.dev.finances.service.impl.ReleaseServiceImpl;
 @ActiveProfiles("test")
 public class ReleaseServiceTest {
 	
+	static final Date JANEIRO_2019 = Date.from(LocalDate.of(2019, 1, 15).atStartOfDay(ZoneId.systemDefault()).toInstant());
+	static final Date JANEIRO_2020 = Date.from(LocalDate.of(2020, 1, 15).atStartOfDay(ZoneId.systemDefault()).toInstant());
+
 	@SpyBean
     ReleaseServiceImpl service;
 	
 	@MockBean
     ReleaseRepository repository;
+
+	@MockBean
+	UserService userService;
+
+	@MockBean
+	UserMonthlyBalanceService monthlyBalanceService;
+
+	@MockBean
+	BalanceCacheService balanceCache;
 	
 	@Test
 	public void deveSalvarUmLancamento() {
@@ -53,6 +93,7 @@ public class ReleaseServiceTest {
 		//verificacao
 		Assertions.assertThat(lancamento.getId()).isEqualTo(lancamentoSalvo.getId());
 		Assertions.assertThat(lancamento.getStatus()).isEqualTo(ReleaseStatusEnum.PENDENTE);
+		Mockito.verify(monthlyBalanceService).register(lancamentoSalvo);
 	}
 	
 	@Test
@@ -81,6 +122,36 @@ public class ReleaseServiceTest {
 		Mockito.verify(repository, Mockito.times(1)).save(lancamentoSalvo);
 	}
 	
+	@Test
+	public void naoDevePermitirVoltarUmLancamentoEfetivadoParaPendenteNaAtualizacao() {
+		Release lancamento = ReleaseRepositoryTest.criarLancamento();
+		lancamento.setId(1l);
+		lancamento.setStatus(ReleaseStatusEnum.PENDENTE);
+		Mockito.doNothing().when(service).validate(lancamento);
+		Mockito.when(repository.findStatesByIds(Collections.singletonList(1l))).thenReturn(Arrays.asList(
+				new ReleaseStateDTO(1l, 0l, 1l, 2020, 1, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.EFETIVADO, BigDecimal.TEN, JANEIRO_2020)));
+
+		Throwable erro = Assertions.catchThrowable(() -> service.update(lancamento));
+
+		Assertions.assertThat(erro).isInstanceOf(BusinessException.class);
+		Mockito.verify(repository, Mockito.never()).save(lancamento);
+	}
+
+	@Test
+	public void deveManterOStatusGravadoQuandoAAtualizacaoNaoInformaStatus() {
+		Release lancamento = ReleaseRepositoryTest.criarLancamento();
+		lancamento.setId(1l);
+		lancamento.setStatus(null);
+		Mockito.doNothing().when(service).validate(lancamento);
+		Mockito.when(repository.findStatesByIds(Collections.singletonList(1l))).thenReturn(Arrays.asList(
+				new ReleaseStateDTO(1l, 0l, 1l, 2020, 1, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.CANCELADO, BigDecimal.TEN, JANEIRO_2020)));
+		Mockito.when(repository.save(lancamento)).thenReturn(lancamento);
+
+		service.update(lancamento);
+
+		Assertions.assertThat(lancamento.getStatus()).isEqualTo(ReleaseStatusEnum.CANCELADO);
+	}
+
 	@Test
 	public void deveLancarErroAoTentarAtualizarUmLancamentoQueAindaNaoFoiSalvo() {
 		//cenario
@@ -130,19 +201,110 @@ public class ReleaseServiceTest {
 	}
 	
 	@Test
-	public void deveAtualizarOStatusDeUmLancamento() {
-		Release lancamento = ReleaseRepositoryTest.criarLancamento();
-		lancamento.setId(1l);
-		lancamento.setStatus(ReleaseStatusEnum.PENDENTE);
-		
-		ReleaseStatusEnum novoStatus = ReleaseStatusEnum.EFETIVADO;
-		Mockito.doReturn(lancamento).when(service).update(lancamento);
-		
-		
-		service.updateStatus(lancamento, novoStatus);
-		
-		Assertions.assertThat(lancamento.getStatus()).isEqualTo(novoStatus);
-		Mockito.verify(service).update(lancamento);
+	public void deveAtualizarOStatusDeUmLancamentoComUmUnicoUpdate() {
+		ReleaseStateDTO estado = new ReleaseStateDTO(1l, 3l, 1l, 2020, 1, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.PENDENTE, BigDecimal.TEN, JANEIRO_2020);
+		Mockito.when(repository.findStatesByIds(Collections.singletonList(1l))).thenReturn(Arrays.asList(estado));
+		Mockito.when(repository.updateStatus(1l, 3l, ReleaseStatusEnum.EFETIVADO)).thenReturn(1);
+		Mockito.when(repository.findReleaseById(1l)).thenReturn(Optional.of(
+				ReleasesDTO.builder().id(1l).status(ReleaseStatusEnum.EFETIVADO).version(4l).build()));
+
+		ReleasesDTO atualizado = service.updateStatus(1l, ReleaseStatusEnum.EFETIVADO, null);
+
+		Assertions.assertThat(atualizado.getVersion()).isEqualTo(4l);
+		Mockito.verify(repository).updateStatus(1l, 3l, ReleaseStatusEnum.EFETIVADO);
+		Mockito.verify(repository, Mockito.never()).save(Mockito.any(Release.class));
+		Mockito.verify(monthlyBalanceService).unregister(
+				new MonthlyBalanceEntryDTO(1l, 2020, 1, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.PENDENTE, BigDecimal.TEN));
+		Mockito.verify(monthlyBalanceService).register(
+				new MonthlyBalanceEntryDTO(1l, 2020, 1, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.EFETIVADO, BigDecimal.TEN));
+	}
+
+	@Test
+	public void naoDevePermitirAlterarOStatusDeUmLancamentoJaEfetivado() {
+		ReleaseStateDTO estado = new ReleaseStateDTO(1l, 0l, 1l, 2020, 1, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.EFETIVADO, BigDecimal.TEN, JANEIRO_2020);
+		Mockito.when(repository.findStatesByIds(Collections.singletonList(1l))).thenReturn(Arrays.asList(estado));
+
+		Throwable erro = Assertions.catchThrowable(() -> service.updateStatus(1l, ReleaseStatusEnum.CANCELADO, null));
+
+		Assertions.assertThat(erro).isInstanceOf(BusinessException.class);
+		Mockito.verify(repository, Mockito.never()).updateStatus(Mockito.anyLong(), Mockito.anyLong(), Mockito.any());
+	}
+
+	@Test
+	public void deveAcusarConflitoQuandoAVersaoDoLancamentoMudou() {
+		ReleaseStateDTO estado = new ReleaseStateDTO(1l, 3l, 1l, 2020, 1, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.PENDENTE, BigDecimal.TEN, JANEIRO_2020);
+		Mockito.when(repository.findStatesByIds(Collections.singletonList(1l))).thenReturn(Arrays.asList(estado));
+		Mockito.when(repository.updateStatus(1l, 2l, ReleaseStatusEnum.EFETIVADO)).thenReturn(0);
+
+		Throwable erro = Assertions.catchThrowable(() -> service.updateStatus(1l, ReleaseStatusEnum.EFETIVADO, 2l));
+
+		Assertions.assertThat(erro).isInstanceOf(OptimisticLockingFailureException.class);
+		Mockito.verifyNoInteractions(monthlyBalanceService);
+	}
+
+	@Test
+	public void deveAtualizarOStatusEmLoteSomenteDosLancamentosPendentes() {
+		Mockito.when(repository.findStatesByUserAndIds(1l, Arrays.asList(1l, 2l, 3l, 4l))).thenReturn(Arrays.asList(
+				new ReleaseStateDTO(1l, 0l, 1l, 2020, 1, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.PENDENTE, BigDecimal.ONE, JANEIRO_2020),
+				new ReleaseStateDTO(2l, 0l, 1l, 2020, 1, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.PENDENTE, BigDecimal.TEN, JANEIRO_2020),
+				new ReleaseStateDTO(3l, 0l, 1l, 2020, 1, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.CANCELADO, BigDecimal.TEN, JANEIRO_2020)));
+		Mockito.when(repository.updateStatusIfUnchanged(Mockito.anyList(), Mockito.eq(ReleaseStatusEnum.EFETIVADO)))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+
+		BulkReleaseResultDTO resultado = service.updateStatus(
+				ReleaseSelectionDTO.builder().userId(1l).ids(Arrays.asList(1l, 2l, 3l, 4l)).build(), ReleaseStatusEnum.EFETIVADO);
+
+		Assertions.assertThat(resultado.getApplied()).containsExactly(1l, 2l);
+		Assertions.assertThat(resultado.getErrors()).extracting(BulkReleaseErrorDTO::getId).containsExactly(4l, 3l);
+		Mockito.verify(monthlyBalanceService).unregister(
+				new MonthlyBalanceEntryDTO(1l, 2020, 1, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.PENDENTE, BigDecimal.valueOf(11)));
+		Mockito.verify(monthlyBalanceService).register(
+				new MonthlyBalanceEntryDTO(1l, 2020, 1, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.EFETIVADO, BigDecimal.valueOf(11)));
+	}
+
+	@Test
+	public void deveRemoverEmLoteOsLancamentosDoFiltroEDoSaldoMensal() {
+		ReleaseFilterDTO filtro = ReleaseFilterDTO.builder().userId(1l).ano(2020).mes(1).build();
+		Mockito.when(repository.findStates(Mockito.any())).thenReturn(Arrays.asList(
+				new ReleaseStateDTO(1l, 0l, 1l, 2020, 1, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO, BigDecimal.ONE, JANEIRO_2020),
+				new ReleaseStateDTO(2l, 0l, 1l, 2020, 1, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO, BigDecimal.TEN, JANEIRO_2020)));
+		Mockito.when(repository.deleteIfUnchanged(Mockito.anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		BulkReleaseResultDTO resultado = service.deleteAll(ReleaseSelectionDTO.builder().filter(filtro).build());
+
+		Assertions.assertThat(resultado.getApplied()).containsExactly(1l, 2l);
+		Mockito.verify(monthlyBalanceService).unregister(
+				new MonthlyBalanceEntryDTO(1l, 2020, 1, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO, BigDecimal.valueOf(11)));
+	}
+
+	@Test
+	public void deveRejeitarSomenteOsLancamentosAlteradosPorOutraOperacao() {
+		ReleaseStateDTO atual = new ReleaseStateDTO(1l, 0l, 1l, 2020, 1, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO, BigDecimal.ONE, JANEIRO_2020);
+		ReleaseStateDTO alterado = new ReleaseStateDTO(2l, 0l, 1l, 2020, 1, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO, BigDecimal.TEN, JANEIRO_2020);
+		Mockito.when(repository.findStatesByUserAndIds(1l, Arrays.asList(1l, 2l))).thenReturn(Arrays.asList(atual, alterado));
+		Mockito.when(repository.deleteIfUnchanged(Mockito.anyList())).thenReturn(Arrays.asList(atual));
+
+		BulkReleaseResultDTO resultado = service.deleteAll(ReleaseSelectionDTO.builder().userId(1l).ids(Arrays.asList(1l, 2l)).build());
+
+		Assertions.assertThat(resultado.getApplied()).containsExactly(1l);
+		Assertions.assertThat(resultado.getErrors()).extracting(BulkReleaseErrorDTO::getId).containsExactly(2l);
+		Mockito.verify(monthlyBalanceService).unregister(
+				new MonthlyBalanceEntryDTO(1l, 2020, 1, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO, BigDecimal.ONE));
+	}
+
+	@Test
+	public void deveExigirOUsuarioAoInformarOsIdsDosLancamentos() {
+		Throwable erro = Assertions.catchThrowable(() -> service.deleteAll(ReleaseSelectionDTO.builder().ids(Arrays.asList(1l)).build()));
+
+		Assertions.assertThat(erro).isInstanceOf(BusinessException.class).hasMessage("Informe o Usuário dos lançamentos.");
+		Mockito.verifyNoInteractions(repository);
+	}
+
+	@Test
+	public void deveExigirIdsOuUsuarioNasOperacoesEmLote() {
+		Throwable erro = Assertions.catchThrowable(() -> service.deleteAll(new ReleaseSelectionDTO()));
+
+		Assertions.assertThat(erro).isInstanceOf(BusinessException.class).hasMessage("Informe os lançamentos ou um Usuário.");
 	}
 	
 	@Test
@@ -184,26 +346,6 @@ public class ReleaseServiceTest {
 		
 		release.setDescription("Salário");
 		erro = Assertions.catchThrowable( () -> service.validate(release) );
-		Assertions.assertThat(erro).isInstanceOf(BusinessException.class).hasMessage("Informe um Mês válido.");
-		
-		release.setMes(0);
-		erro = Assertions.catchThrowable( () -> service.validate(release) );
-		Assertions.assertThat(erro).isInstanceOf(BusinessException.class).hasMessage("Informe um Mês válido.");
-		
-		release.setMes(13);
-		erro = Assertions.catchThrowable( () -> service.validate(release) );
-		Assertions.assertThat(erro).isInstanceOf(BusinessException.class).hasMessage("Informe um Mês válido.");
-		
-		release.setMes(1);
-		erro = Assertions.catchThrowable( () -> service.validate(release) );
-		Assertions.assertThat(erro).isInstanceOf(BusinessException.class).hasMessage("Informe um Ano válido.");
-		
-		release.setAno(202);
-		erro = Assertions.catchThrowable( () -> service.validate(release) );
-		Assertions.assertThat(erro).isInstanceOf(BusinessException.class).hasMessage("Informe um Ano válido.");
-		
-		release.setAno(2020);
-		erro = Assertions.catchThrowable( () -> service.validate(release) );
 		Assertions.assertThat(erro).isInstanceOf(BusinessException.class).hasMessage("Informe um Usuário.");
 		
 		release.setUser(new User());
@@ -221,5 +363,247 @@ public class ReleaseServiceTest {
 		release.setValue(BigDecimal.ONE);
 		erro = Assertions.catchThrowable( () -> service.validate(release) );
 		Assertions.assertThat(erro).isInstanceOf(BusinessException.class).hasMessage("Informe um Tipo de lançamento.");
+		
+		// mês e ano vêm da data do lançamento, que é a última exigência
+		release.setType(ReleaseTypeEnum.RECEITA);
+		erro = Assertions.catchThrowable( () -> service.validate(release) );
+		Assertions.assertThat(erro).isInstanceOf(BusinessException.class).hasMessage("Informe uma Data para o lançamento.");
+		
+		release.setReleaseDate(new Date());
+		Assertions.assertThatCode( () -> service.validate(release) ).doesNotThrowAnyException();
+	}
+
+	@Test
+	public void deveCalcularOSaldoComUmaUnicaConsulta() {
+		Long userId = 1l;
+		BalanceSummaryDTO resumo = new BalanceSummaryDTO(BigDecimal.valueOf(100), BigDecimal.valueOf(30));
+		Mockito.when(repository.getBalanceSummaryByUserAndStatus(Mockito.eq(userId), Mockito.eq(ReleaseStatusEnum.EFETIVADO),
+				Mockito.any(), Mockito.any())).thenReturn(resumo);
+
+		BigDecimal saldo = service.getBalanceByUser(userId, PeriodDTO.builder().dias(2).build());
+
+		Assertions.assertThat(saldo).isEqualByComparingTo(BigDecimal.valueOf(70));
+		Mockito.verify(repository, Mockito.times(1)).getBalanceSummaryByUserAndStatus(Mockito.eq(userId),
+				Mockito.eq(ReleaseStatusEnum.EFETIVADO), Mockito.any(), Mockito.any());
+		Mockito.verifyNoInteractions(monthlyBalanceService);
+	}
+
+	@Test
+	public void deveSomarOsMesesInteirosPeloSaldoMensalESomenteOsDiasDasPontasPelosLancamentos() {
+		Mockito.when(balanceCache.get(Mockito.any(), Mockito.any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+		Mockito.when(monthlyBalanceService.getBalanceSummary(1l, YearMonth.of(2020, 2), YearMonth.of(2020, 2)))
+				.thenReturn(new BalanceSummaryDTO(BigDecimal.valueOf(100), BigDecimal.valueOf(30)));
+		Mockito.when(repository.getBalanceSummaryByUserAndStatus(Mockito.eq(1l), Mockito.eq(ReleaseStatusEnum.EFETIVADO), Mockito.any(), Mockito.any()))
+				.thenReturn(new BalanceSummaryDTO(BigDecimal.TEN, BigDecimal.ONE));
+		PeriodDTO periodo = PeriodDTO.builder().period(PeriodTypeEnum.INTERVALO)
+				.startDate(LocalDate.of(2020, 1, 20)).endDate(LocalDate.of(2020, 3, 5)).build();
+
+		BalanceSummaryDTO resumo = service.getBalanceSummaryByUser(1l, periodo);
+		BigDecimal despesas = service.getExtractByReleaseType(1l, ReleaseTypeEnum.DESPESA, periodo);
+
+		Assertions.assertThat(resumo.getIncome()).isEqualByComparingTo(BigDecimal.valueOf(120));
+		Assertions.assertThat(resumo.getExpense()).isEqualByComparingTo(BigDecimal.valueOf(32));
+		Assertions.assertThat(despesas).isEqualByComparingTo(BigDecimal.valueOf(32));
+		Mockito.verify(repository, Mockito.times(2)).getBalanceSummaryByUserAndStatus(1l, ReleaseStatusEnum.EFETIVADO,
+				inicioDoDia(2020, 1, 20), inicioDoDia(2020, 2, 1));
+		Mockito.verify(repository, Mockito.times(2)).getBalanceSummaryByUserAndStatus(1l, ReleaseStatusEnum.EFETIVADO,
+				inicioDoDia(2020, 3, 1), inicioDoDia(2020, 3, 6));
+	}
+
+	private Date inicioDoDia(int ano, int mes, int dia) {
+		return Date.from(LocalDate.of(ano, mes, dia).atStartOfDay(ZoneId.systemDefault()).toInstant());
+	}
+
+	@Test
+	public void deveRetornarResumoZeradoQuandoNaoHouverLancamentos() {
+		Mockito.when(repository.getBalanceSummaryByUserAndStatus(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenReturn(new BalanceSummaryDTO(null, null));
+
+		BalanceSummaryDTO resumo = service.getBalanceSummaryByUser(1l, PeriodDTO.builder().dias(2).build());
+
+		Assertions.assertThat(resumo.getIncome()).isEqualByComparingTo(BigDecimal.ZERO);
+		Assertions.assertThat(resumo.getExpense()).isEqualByComparingTo(BigDecimal.ZERO);
+		Assertions.assertThat(resumo.getNet()).isEqualByComparingTo(BigDecimal.ZERO);
+	}
+
+	@Test
+	public void deveUsarOCacheSomenteParaPeriodosFechados() {
+		Mockito.when(balanceCache.get(Mockito.any(), Mockito.any())).thenReturn(new BalanceSummaryDTO(BigDecimal.TEN, BigDecimal.ONE));
+		PeriodDTO fechado = PeriodDTO.builder().period(PeriodTypeEnum.MES).ano(2020).mes(3).build();
+
+		BalanceSummaryDTO resumo = service.getBalanceSummaryByUser(1l, fechado);
+		service.getBalanceSummaryByUser(1l, PeriodDTO.builder().dias(2).build());
+
+		Assertions.assertThat(resumo.getNet()).isEqualByComparingTo(BigDecimal.valueOf(9));
+		Mockito.verify(balanceCache).get(Mockito.eq(new BalanceCacheKey(1l, LocalDate.of(2020, 3, 1), LocalDate.of(2020, 3, 31),
+				null, ReleaseStatusEnum.EFETIVADO)), Mockito.any());
+		Mockito.verify(repository, Mockito.times(1)).getBalanceSummaryByUserAndStatus(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	public void deveResolverOTrimestreComoUmPeriodoFechado() {
+		PeriodDTO periodo = PeriodDTO.builder().period(PeriodTypeEnum.TRIMESTRE).ano(2020).trimestre(2).build();
+
+		DateRangeDTO intervalo = service.resolvePeriod(periodo);
+
+		Assertions.assertThat(intervalo.getStartDate()).isEqualTo(LocalDate.of(2020, 4, 1));
+		Assertions.assertThat(intervalo.getEndDate()).isEqualTo(LocalDate.of(2020, 6, 30));
+		Assertions.assertThat(intervalo.isClosed()).isTrue();
+	}
+
+	@Test
+	public void deveUsarAJanelaMovelPadraoQuandoNaoHouverPeriodo() {
+		DateRangeDTO intervalo = service.resolvePeriod(null);
+
+		Assertions.assertThat(intervalo.getStartDate()).isEqualTo(LocalDate.now().minusDays(30));
+		Assertions.assertThat(intervalo.getEndDate()).isEqualTo(LocalDate.now());
+		Assertions.assertThat(intervalo.isClosed()).isFalse();
+	}
+
+	@Test
+	public void deveLancarErroAoResolverUmPeriodoInvalido() {
+		Throwable erro = Assertions.catchThrowable(() -> service.resolvePeriod(
+				PeriodDTO.builder().period(PeriodTypeEnum.MES).ano(2020).mes(13).build()));
+		Assertions.assertThat(erro).isInstanceOf(BusinessException.class).hasMessage("Informe um Mês válido.");
+
+		erro = Assertions.catchThrowable(() -> service.resolvePeriod(PeriodDTO.builder().period(PeriodTypeEnum.INTERVALO)
+				.startDate(LocalDate.of(2020, 2, 1)).endDate(LocalDate.of(2020, 1, 1)).build()));
+		Assertions.assertThat(erro).isInstanceOf(BusinessException.class).hasMessage("Informe um período válido.");
+	}
+
+	@Test
+	public void deveMoverOValorNoSaldoMensalAoAtualizarUmLancamento() {
+		Release lancamento = ReleaseRepositoryTest.criarLancamento();
+		lancamento.setId(1l);
+		lancamento.setStatus(ReleaseStatusEnum.EFETIVADO);
+		ReleaseStateDTO anterior = new ReleaseStateDTO(1l, 4l, 1l, 2019, 1, lancamento.getType(), ReleaseStatusEnum.PENDENTE,
+				lancamento.getValue(), JANEIRO_2019);
+
+		Mockito.doNothing().when(service).validate(lancamento);
+		Mockito.when(repository.findStatesByIds(Collections.singletonList(1l))).thenReturn(Arrays.asList(anterior));
+		Mockito.when(repository.save(lancamento)).thenReturn(lancamento);
+
+		service.update(lancamento);
+
+		Assertions.assertThat(lancamento.getVersion()).isEqualTo(4l);
+		Mockito.verify(monthlyBalanceService).unregister(new MonthlyBalanceEntryDTO(1l, 2019, 1, lancamento.getType(),
+				ReleaseStatusEnum.PENDENTE, lancamento.getValue()));
+		Mockito.verify(monthlyBalanceService).register(lancamento);
+	}
+
+	@Test
+	public void deveRemoverOValorDoSaldoMensalAoDeletarUmLancamento() {
+		Release lancamento = ReleaseRepositoryTest.criarLancamento();
+		lancamento.setId(1l);
+		ReleaseStateDTO estado = new ReleaseStateDTO(1l, 0l, 1l, 2020, 1, lancamento.getType(), ReleaseStatusEnum.EFETIVADO,
+				lancamento.getValue(), JANEIRO_2020);
+		Mockito.when(repository.findStatesByIds(Collections.singletonList(1l))).thenReturn(Arrays.asList(estado));
+
+		service.delete(lancamento);
+
+		Mockito.verify(monthlyBalanceService).unregister(new MonthlyBalanceEntryDTO(1l, 2020, 1, lancamento.getType(),
+				ReleaseStatusEnum.EFETIVADO, lancamento.getValue()));
+		Mockito.verify(repository).delete(lancamento);
+	}
+
+	@Test
+	public void deveRetornarCursorDaProximaPaginaQuandoHouverMaisLancamentos() {
+		Long userId = 1l;
+		ReleasesDTO primeiro = ReleasesDTO.builder().id(3l).releaseDate(new Date(3000)).build();
+		ReleasesDTO segundo = ReleasesDTO.builder().id(2l).releaseDate(new Date(2000)).build();
+		ReleasesDTO terceiro = ReleasesDTO.builder().id(1l).releaseDate(new Date(1000)).build();
+		Mockito.when(userService.existsById(userId)).thenReturn(true);
+		Mockito.when(repository.findFirstPage(Mockito.eq(userId), Mockito.any(Pageable.class)))
+				.thenReturn(Arrays.asList(primeiro, segundo, terceiro));
+
+		CursorPaginatedResponseDTO<ReleasesDTO> pagina = service.getReleasesAfter(userId, null, 2, false);
+
+		Assertions.assertThat(pagina.getItems()).containsExactly(primeiro, segundo);
+		Assertions.assertThat(pagina.getTotalRecords()).isNull();
+		ReleaseCursor cursor = ReleaseCursor.decode(pagina.getNextCursor());
+		Assertions.assertThat(cursor.getId()).isEqualTo(2l);
+		Assertions.assertThat(cursor.getReleaseDate()).isEqualTo(new Date(2000));
+		Mockito.verify(repository, Mockito.never()).countByUser(Mockito.any());
+	}
+
+	@Test
+	public void deveBuscarAPaginaSeguinteAPartirDoCursor() {
+		Long userId = 1l;
+		String after = new ReleaseCursor(new Date(2000), 2l).encode();
+		Mockito.when(userService.existsById(userId)).thenReturn(true);
+		Mockito.when(repository.findPageAfter(Mockito.eq(userId), Mockito.eq(new Date(2000)), Mockito.eq(2l), Mockito.any(Pageable.class)))
+				.thenReturn(Arrays.asList(ReleasesDTO.builder().id(1l).releaseDate(new Date(1000)).build()));
+		Mockito.when(repository.countByUser(userId)).thenReturn(3l);
+
+		CursorPaginatedResponseDTO<ReleasesDTO> pagina = service.getReleasesAfter(userId, after, 2, true);
+
+		Assertions.assertThat(pagina.getItems()).hasSize(1);
+		Assertions.assertThat(pagina.getNextCursor()).isNull();
+		Assertions.assertThat(pagina.getTotalRecords()).isEqualTo(3l);
+	}
+
+	@Test
+	public void deveLancarErroAoInformarUmCursorInvalido() {
+		Mockito.when(userService.existsById(1l)).thenReturn(true);
+
+		Throwable erro = Assertions.catchThrowable(() -> service.getReleasesAfter(1l, "invalido", 10, false));
+
+		Assertions.assertThat(erro).isInstanceOf(BusinessException.class).hasMessage("Cursor de paginação inválido.");
+	}
+
+	@Test
+	public void deveSalvarEmLoteApenasOsLancamentosValidos() {
+		Release valido = ReleaseRepositoryTest.criarLancamento();
+		valido.setUser(User.builder().id(1l).build());
+		Release invalido = ReleaseRepositoryTest.criarLancamento();
+		invalido.setUser(User.builder().id(1l).build());
+		invalido.setDescription("");
+
+		List<BulkCreateErrorDTO> erros = service.saveAll(Arrays.asList(valido, invalido), 1000);
+
+		Assertions.assertThat(erros).containsExactly(new BulkCreateErrorDTO(1001, "Informe uma Descrição válida."));
+		Assertions.assertThat(valido.getStatus()).isEqualTo(ReleaseStatusEnum.PENDENTE);
+		Mockito.verify(repository).insertAll(Arrays.asList(valido));
+		Mockito.verify(monthlyBalanceService).registerAll(Arrays.asList(valido));
+	}
+
+	@Test
+	public void deveIgnorarLancamentosJaImportados() {
+		Release existente = ReleaseRepositoryTest.criarLancamento();
+		existente.setUser(User.builder().id(1l).build());
+		Release repetidoNoArquivo = ReleaseRepositoryTest.criarLancamento();
+		repetidoNoArquivo.setUser(User.builder().id(1l).build());
+		repetidoNoArquivo.setReleaseDate(new Date(5000));
+		Release novo = ReleaseRepositoryTest.criarLancamento();
+		novo.setUser(User.builder().id(1l).build());
+		novo.setReleaseDate(new Date(5000));
+
+		Mockito.when(repository.findFingerprints(Mockito.eq(1l), Mockito.any(), Mockito.any()))
+				.thenReturn(Arrays.asList(new ReleaseFingerprintDTO(existente.getReleaseDate(), new BigDecimal("10.00"), "LANCAMENTO QUALQUER")));
+
+		StatementChunkResultDTO resultado = service.importChunk(1l, Arrays.asList(existente, novo, repetidoNoArquivo), Arrays.asList(1, 2, 3), new HashMap<>());
+
+		Assertions.assertThat(resultado.getCreated()).isEqualTo(2);
+		Assertions.assertThat(resultado.getDuplicated()).isEqualTo(1);
+		Mockito.verify(repository).insertAll(Arrays.asList(novo, repetidoNoArquivo));
+	}
+
+	@Test
+	public void deveReconhecerLancamentosRepetidosDoArquivoImportadosEmOutroTrecho() {
+		Release primeiro = ReleaseRepositoryTest.criarLancamento();
+		primeiro.setUser(User.builder().id(1l).build());
+		Release segundo = ReleaseRepositoryTest.criarLancamento();
+		segundo.setUser(User.builder().id(1l).build());
+		Map<String, Integer> ocorrencias = new HashMap<>();
+		Mockito.when(repository.findFingerprints(Mockito.eq(1l), Mockito.any(), Mockito.any()))
+				.thenReturn(Collections.emptyList())
+				.thenReturn(Arrays.asList(ReleaseFingerprintDTO.of(primeiro)));
+
+		StatementChunkResultDTO primeiroTrecho = service.importChunk(1l, Arrays.asList(primeiro), Arrays.asList(1), ocorrencias);
+		StatementChunkResultDTO segundoTrecho = service.importChunk(1l, Arrays.asList(segundo), Arrays.asList(2), ocorrencias);
+
+		Assertions.assertThat(primeiroTrecho.getCreated()).isEqualTo(1);
+		Assertions.assertThat(segundoTrecho.getCreated()).isEqualTo(1);
+		Assertions.assertThat(segundoTrecho.getDuplicated()).isZero();
 	}
 }
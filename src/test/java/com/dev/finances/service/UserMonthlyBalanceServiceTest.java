@@ -0,0 +1,146 @@
+package com.dev.finances.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.dev.finances.api.dto.CashflowMonthDTO;
+import com.dev.finances.api.dto.MonthlyBalanceEntryDTO;
+import com.dev.finances.model.entity.UserMonthlyBalance;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.repository.UserMonthlyBalanceRepository;
+import com.dev.finances.model.repository.UserRepository;
+import com.dev.finances.service.impl.UserMonthlyBalanceServiceImpl;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+public class UserMonthlyBalanceServiceTest {
+
+	@SpyBean
+	UserMonthlyBalanceServiceImpl service;
+
+	@MockBean
+	UserMonthlyBalanceRepository repository;
+
+	@MockBean
+	UserRepository userRepository;
+
+	@Test
+	public void deveCriarOSaldoDoMesQuandoAindaNaoExistir() {
+		Mockito.when(repository.findByUserIdAndReleaseYearAndReleaseMonthAndTypeAndStatus(1l, 2020, 5, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.PENDENTE))
+				.thenReturn(Optional.empty());
+
+		service.register(criarEntrada(BigDecimal.TEN));
+
+		ArgumentCaptor<UserMonthlyBalance> captor = ArgumentCaptor.forClass(UserMonthlyBalance.class);
+		Mockito.verify(repository).save(captor.capture());
+		Assertions.assertThat(captor.getValue().getTotal()).isEqualByComparingTo(BigDecimal.TEN);
+		Assertions.assertThat(captor.getValue().getUserId()).isEqualTo(1l);
+	}
+
+	@Test
+	public void deveSubtrairDoSaldoDoMesAoRemoverUmaEntrada() {
+		UserMonthlyBalance saldo = UserMonthlyBalance.builder()
+				.userId(1l).releaseYear(2020).releaseMonth(5)
+				.type(ReleaseTypeEnum.RECEITA)
+				.status(ReleaseStatusEnum.PENDENTE)
+				.total(BigDecimal.valueOf(25))
+				.build();
+		Mockito.when(repository.findByUserIdAndReleaseYearAndReleaseMonthAndTypeAndStatus(1l, 2020, 5, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.PENDENTE))
+				.thenReturn(Optional.of(saldo));
+
+		service.unregister(criarEntrada(BigDecimal.TEN));
+
+		Assertions.assertThat(saldo.getTotal()).isEqualByComparingTo(BigDecimal.valueOf(15));
+		Mockito.verify(repository).save(saldo);
+	}
+
+	@Test
+	public void naoDeveAlterarOSaldoQuandoAEntradaEstiverIncompleta() {
+		MonthlyBalanceEntryDTO entrada = criarEntrada(BigDecimal.TEN);
+		entrada.setReleaseMonth(null);
+
+		service.register(entrada);
+
+		Mockito.verify(repository, Mockito.never()).save(Mockito.any(UserMonthlyBalance.class));
+	}
+
+	@Test
+	public void deveTravarOUsuarioAntesDeLerOSaldoDoMes() {
+		Mockito.when(repository.findByUserIdAndReleaseYearAndReleaseMonthAndTypeAndStatus(1l, 2020, 5, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.PENDENTE))
+				.thenReturn(Optional.empty());
+
+		service.register(criarEntrada(BigDecimal.TEN));
+
+		InOrder ordem = Mockito.inOrder(userRepository, repository);
+		ordem.verify(userRepository).lockById(1l);
+		ordem.verify(repository).findByUserIdAndReleaseYearAndReleaseMonthAndTypeAndStatus(1l, 2020, 5, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.PENDENTE);
+		ordem.verify(repository).save(Mockito.any(UserMonthlyBalance.class));
+	}
+
+	@Test
+	public void deveRegistrarOLancamentoNoMesDaDataDoLancamento() {
+		Release lancamento = Release.builder()
+				.user(User.builder().id(1l).build())
+				.ano(2019)
+				.mes(12)
+				.releaseDate(Date.from(LocalDate.of(2020, 5, 10).atStartOfDay(ZoneId.systemDefault()).toInstant()))
+				.type(ReleaseTypeEnum.RECEITA)
+				.status(ReleaseStatusEnum.PENDENTE)
+				.value(BigDecimal.TEN)
+				.build();
+		Mockito.when(repository.findByUserIdAndReleaseYearAndReleaseMonthAndTypeAndStatus(1l, 2020, 5, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.PENDENTE))
+				.thenReturn(Optional.empty());
+
+		service.register(lancamento);
+
+		ArgumentCaptor<UserMonthlyBalance> captor = ArgumentCaptor.forClass(UserMonthlyBalance.class);
+		Mockito.verify(repository).save(captor.capture());
+		Assertions.assertThat(captor.getValue().getReleaseYear()).isEqualTo(2020);
+		Assertions.assertThat(captor.getValue().getReleaseMonth()).isEqualTo(5);
+	}
+
+	private MonthlyBalanceEntryDTO criarEntrada(BigDecimal value) {
+		return MonthlyBalanceEntryDTO.builder()
+				.userId(1l)
+				.releaseYear(2020)
+				.releaseMonth(5)
+				.type(ReleaseTypeEnum.RECEITA)
+				.status(ReleaseStatusEnum.PENDENTE)
+				.value(value)
+				.build();
+	}
+
+	@Test
+	public void deveMontarOFluxoDeCaixaMesAMesPreenchendoOsMesesSemLancamentos() {
+		Mockito.when(repository.getCashflow(1l, 2019, 12, 2020, 2, ReleaseStatusEnum.EFETIVADO)).thenReturn(Arrays.asList(
+				new CashflowMonthDTO(2019, 12, BigDecimal.valueOf(100), BigDecimal.valueOf(40)),
+				new CashflowMonthDTO(2020, 2, BigDecimal.ZERO, BigDecimal.TEN)));
+
+		List<CashflowMonthDTO> fluxo = service.getCashflow(1l, YearMonth.of(2019, 12), YearMonth.of(2020, 2));
+
+		Assertions.assertThat(fluxo).extracting(CashflowMonthDTO::getReleaseMonth).containsExactly(12, 1, 2);
+		Assertions.assertThat(fluxo.get(0).getNet()).isEqualByComparingTo(BigDecimal.valueOf(60));
+		Assertions.assertThat(fluxo.get(1).getNet()).isEqualByComparingTo(BigDecimal.ZERO);
+		Assertions.assertThat(fluxo.get(2).getNet()).isEqualByComparingTo(BigDecimal.valueOf(-10));
+	}
+}
@@ -134,4 +134,12 @@ public class UserServiceTest {
 		Assertions.assertThrows(BusinessException.class, () -> service.validateEmail("email@email.com"));
 	}
 
+	@Test
+	public void deveVerificarAExistenciaDoUsuarioSemCarregarAEntidade() {
+		Mockito.when(repository.existsById(1l)).thenReturn(true);
+
+		Assertions.assertTrue(service.existsById(1l));
+		Mockito.verify(repository, Mockito.never()).findById(Mockito.anyLong());
+	}
+
 }
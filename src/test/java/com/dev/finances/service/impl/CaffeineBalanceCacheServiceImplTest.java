@@ -0,0 +1,72 @@
+package com.dev.finances.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.dev.finances.api.dto.BalanceCacheKey;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.model.enums.ReleaseEventTypeEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.service.BalanceCacheService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CaffeineBalanceCacheServiceImplTest {
+
+	MeterRegistry registry = new SimpleMeterRegistry();
+	CaffeineBalanceCacheServiceImpl cache = new CaffeineBalanceCacheServiceImpl(registry, 100, 60);
+
+	BalanceCacheKey janeiro = chave(1l, LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 31));
+	BalanceCacheKey fevereiro = chave(1l, LocalDate.of(2020, 2, 1), LocalDate.of(2020, 2, 29));
+
+	@Test
+	public void deveCalcularOSaldoUmaUnicaVezEContarOsAcertos() {
+		cache.get(janeiro, () -> BigDecimal.TEN);
+		BigDecimal saldo = cache.get(janeiro, () -> BigDecimal.ONE);
+
+		Assertions.assertThat(saldo).isEqualByComparingTo(BigDecimal.TEN);
+		Assertions.assertThat(registry.get(BalanceCacheService.METRIC).tag("result", "hit").counter().count()).isEqualTo(1);
+		Assertions.assertThat(registry.get(BalanceCacheService.METRIC).tag("result", "miss").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void deveInvalidarSomenteOPeriodoEStatusAfetados() {
+		cache.get(janeiro, () -> BigDecimal.TEN);
+		cache.get(fevereiro, () -> BigDecimal.TEN);
+
+		cache.invalidate(evento(1l, LocalDate.of(2020, 2, 10), ReleaseStatusEnum.PENDENTE));
+		Assertions.assertThat(cache.get(fevereiro, () -> BigDecimal.ONE)).isEqualByComparingTo(BigDecimal.TEN);
+
+		cache.invalidate(evento(2l, LocalDate.of(2020, 2, 10), ReleaseStatusEnum.EFETIVADO));
+		Assertions.assertThat(cache.get(fevereiro, () -> BigDecimal.ONE)).isEqualByComparingTo(BigDecimal.TEN);
+
+		cache.invalidate(evento(1l, LocalDate.of(2020, 2, 10), ReleaseStatusEnum.EFETIVADO));
+		Assertions.assertThat(cache.get(fevereiro, () -> BigDecimal.ONE)).isEqualByComparingTo(BigDecimal.ONE);
+		Assertions.assertThat(cache.get(janeiro, () -> BigDecimal.ONE)).isEqualByComparingTo(BigDecimal.TEN);
+	}
+
+	@Test
+	public void naoDeveGuardarUmSaldoCalculadoDuranteUmaAlteracaoDoUsuario() {
+		BigDecimal saldo = cache.get(janeiro, () -> {
+			cache.invalidate(new ReleaseChangedEvent(1l, ReleaseEventTypeEnum.ATUALIZADO, 1l));
+			return BigDecimal.TEN;
+		});
+
+		Assertions.assertThat(saldo).isEqualByComparingTo(BigDecimal.TEN);
+		Assertions.assertThat(cache.get(janeiro, () -> BigDecimal.ONE)).isEqualByComparingTo(BigDecimal.ONE);
+	}
+
+	private BalanceCacheKey chave(Long userId, LocalDate inicio, LocalDate fim) {
+		return new BalanceCacheKey(userId, inicio, fim, null, ReleaseStatusEnum.EFETIVADO);
+	}
+
+	private ReleaseChangedEvent evento(Long userId, LocalDate data, ReleaseStatusEnum status) {
+		return new ReleaseChangedEvent(userId, ReleaseEventTypeEnum.ATUALIZADO, 1l, data, data, EnumSet.copyOf(Collections.singleton(status)));
+	}
+}
@@ -0,0 +1,44 @@
+package com.dev.finances.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumSet;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.dev.finances.api.dto.BalanceCacheKey;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.model.enums.ReleaseEventTypeEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class DistributedBalanceCacheServiceImplTest {
+
+	DistributedBalanceCacheServiceImpl cache = new DistributedBalanceCacheServiceImpl(
+			new ConcurrentMapCacheManager(DistributedBalanceCacheServiceImpl.CACHE_NAME), new SimpleMeterRegistry());
+
+	BalanceCacheKey janeiro = new BalanceCacheKey(1l, LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 31), null, ReleaseStatusEnum.EFETIVADO);
+
+	@Test
+	public void deveInvalidarOSaldoAoReceberOEventoPeloOutbox() {
+		cache.get(janeiro, () -> BigDecimal.TEN);
+
+		cache.accept(1l, new ReleaseChangedEvent(1l, ReleaseEventTypeEnum.CRIADO, 10l, LocalDate.of(2020, 1, 5),
+				LocalDate.of(2020, 1, 5), EnumSet.of(ReleaseStatusEnum.EFETIVADO)));
+
+		Assertions.assertThat(cache.<BigDecimal>get(janeiro, () -> BigDecimal.ONE)).isEqualByComparingTo(BigDecimal.ONE);
+	}
+
+	@Test
+	public void deveManterOSaldoDeOutroAnoAoReceberOEventoPeloOutbox() {
+		cache.get(janeiro, () -> BigDecimal.TEN);
+
+		cache.accept(1l, new ReleaseChangedEvent(1l, ReleaseEventTypeEnum.CRIADO, 10l, LocalDate.of(2021, 1, 5),
+				LocalDate.of(2021, 1, 5), EnumSet.of(ReleaseStatusEnum.EFETIVADO)));
+
+		Assertions.assertThat(cache.<BigDecimal>get(janeiro, () -> BigDecimal.ONE)).isEqualByComparingTo(BigDecimal.TEN);
+	}
+}
@@ -0,0 +1,130 @@
+package com.dev.finances.service.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.event.ReleaseOutboxConsumer;
+import com.dev.finances.model.entity.ReleaseOutbox;
+import com.dev.finances.model.enums.ReleaseEventTypeEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.repository.ReleaseOutboxRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ReleaseOutboxServiceImplTest {
+
+	ReleaseOutboxRepository repository = Mockito.mock(ReleaseOutboxRepository.class);
+	MeterRegistry registry = new SimpleMeterRegistry();
+	List<Long> entregues = new ArrayList<>();
+	ReleaseOutboxConsumer consumidor = (id, evento) -> {
+		if (Long.valueOf(99l).equals(evento.getReleaseId()))
+			throw new IllegalStateException("falha");
+		entregues.add(id);
+	};
+	ReleaseOutboxServiceImpl outbox = new ReleaseOutboxServiceImpl(repository, Arrays.asList(consumidor), registry, 100, 3);
+
+	@Test
+	public void deveGravarOEventoComOsStatusEDatas() {
+		outbox.append(new ReleaseChangedEvent(1l, ReleaseEventTypeEnum.CRIADO, 10l, LocalDate.of(2020, 1, 1),
+				LocalDate.of(2020, 1, 5), EnumSet.of(ReleaseStatusEnum.PENDENTE, ReleaseStatusEnum.EFETIVADO)));
+
+		ArgumentCaptor<ReleaseOutbox> captor = ArgumentCaptor.forClass(ReleaseOutbox.class);
+		Mockito.verify(repository).save(captor.capture());
+		Assertions.assertThat(captor.getValue().getUserId()).isEqualTo(1l);
+		Assertions.assertThat(captor.getValue().getStatuses()).isEqualTo("EFETIVADO,PENDENTE");
+		Assertions.assertThat(captor.getValue().getAttempts()).isEqualTo(0);
+		Assertions.assertThat(captor.getValue().getCreatedAt()).isNotNull();
+	}
+
+	@Test
+	public void deveEntregarEmOrdemEApagarOsEventosEntregues() {
+		Mockito.when(repository.findDue(Mockito.any(LocalDateTime.class), Mockito.any(Pageable.class)))
+				.thenReturn(Arrays.asList(entrada(1l, 1l, 10l), entrada(2l, 2l, 20l), entrada(3l, 1l, 11l)));
+
+		int quantidade = outbox.dispatch();
+
+		Assertions.assertThat(quantidade).isEqualTo(3);
+		Assertions.assertThat(entregues).containsExactly(1l, 2l, 3l);
+		Mockito.verify(repository).deleteById(1l);
+		Mockito.verify(repository).deleteById(2l);
+		Mockito.verify(repository).deleteById(3l);
+	}
+
+	@Test
+	public void deveSegurarOsEventosSeguintesDoUsuarioQuandoUmaEntregaFalhar() {
+		ReleaseOutbox falha = entrada(1l, 1l, 99l);
+		Mockito.when(repository.findDue(Mockito.any(LocalDateTime.class), Mockito.any(Pageable.class)))
+				.thenReturn(Arrays.asList(falha, entrada(2l, 2l, 20l), entrada(3l, 1l, 11l)));
+
+		int quantidade = outbox.dispatch();
+
+		Assertions.assertThat(quantidade).isEqualTo(1);
+		Assertions.assertThat(entregues).containsExactly(2l);
+		Assertions.assertThat(falha.getAttempts()).isEqualTo(1);
+		Assertions.assertThat(falha.getNextAttemptAt()).isAfter(LocalDateTime.now());
+		Assertions.assertThat(falha.getLastError()).contains("falha");
+		Mockito.verify(repository).save(falha);
+		Mockito.verify(repository, Mockito.never()).deleteById(1l);
+		Mockito.verify(repository, Mockito.never()).deleteById(3l);
+		Assertions.assertThat(registry.get(ReleaseOutboxServiceImpl.METRIC).tag("result", "failed").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void naoDevePassarDeUmEventoGlobalDepoisDeUmaFalha() {
+		Mockito.when(repository.findDue(Mockito.any(LocalDateTime.class), Mockito.any(Pageable.class)))
+				.thenReturn(Arrays.asList(entrada(1l, 1l, 99l), entrada(2l, 2l, 20l), entrada(3l, null, null), entrada(4l, 2l, 21l)));
+
+		int quantidade = outbox.dispatch();
+
+		Assertions.assertThat(quantidade).isEqualTo(1);
+		Assertions.assertThat(entregues).containsExactly(2l);
+	}
+
+	@Test
+	public void deveEstacionarOEventoAoAtingirOLimiteDeTentativas() {
+		ReleaseOutbox falha = entrada(1l, 1l, 99l);
+		falha.setAttempts(2);
+		falha.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+		Mockito.when(repository.findDue(Mockito.any(LocalDateTime.class), Mockito.any(Pageable.class)))
+				.thenReturn(Arrays.asList(falha));
+
+		outbox.dispatch();
+
+		Assertions.assertThat(falha.getAttempts()).isEqualTo(3);
+		Assertions.assertThat(falha.getParkedAt()).isNotNull();
+		Assertions.assertThat(falha.getLastError()).contains("falha");
+		Mockito.verify(repository).save(falha);
+		Mockito.verify(repository, Mockito.never()).deleteById(1l);
+		Assertions.assertThat(registry.get(ReleaseOutboxServiceImpl.METRIC).tag("result", "parked").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void deveLimitarOIntervaloEntreTentativas() {
+		Assertions.assertThat(ReleaseOutboxServiceImpl.backoffSeconds(1)).isEqualTo(1);
+		Assertions.assertThat(ReleaseOutboxServiceImpl.backoffSeconds(4)).isEqualTo(8);
+		Assertions.assertThat(ReleaseOutboxServiceImpl.backoffSeconds(30)).isEqualTo(300);
+	}
+
+	private ReleaseOutbox entrada(Long id, Long usuario, Long lancamento) {
+		return ReleaseOutbox.builder()
+				.id(id)
+				.userId(usuario)
+				.type(ReleaseEventTypeEnum.CRIADO)
+				.releaseId(lancamento)
+				.createdAt(LocalDateTime.now())
+				.attempts(0)
+				.build();
+	}
+}
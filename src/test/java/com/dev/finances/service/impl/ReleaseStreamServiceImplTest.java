@@ -0,0 +1,138 @@
+package com.dev.finances.service.impl;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.dev.finances.api.dto.BalanceSummaryDTO;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.enums.ReleaseEventTypeEnum;
+import com.dev.finances.service.ReleaseService;
+
+public class ReleaseStreamServiceImplTest {
+
+	ReleaseService releaseService = Mockito.mock(ReleaseService.class);
+	Deque<SseEmitter> emitters = new ArrayDeque<>();
+	ReleaseStreamServiceImpl streams = new ReleaseStreamServiceImpl(releaseService, new SyncTaskExecutor(), 4, 2, 3, 60000) {
+		@Override
+		SseEmitter createEmitter() {
+			return emitters.isEmpty() ? super.createEmitter() : emitters.poll();
+		}
+	};
+
+	@Test
+	public void deveLimitarAsConexoesPorUsuarioENoTotal() {
+		streams.subscribe(1l);
+		streams.subscribe(1l);
+
+		Throwable erro = Assertions.catchThrowable(() -> streams.subscribe(1l));
+		Assertions.assertThat(erro).isInstanceOf(BusinessException.class).hasMessage("O usuário já possui 2 conexões abertas.");
+
+		streams.subscribe(2l);
+		erro = Assertions.catchThrowable(() -> streams.subscribe(3l));
+		Assertions.assertThat(erro).isInstanceOf(BusinessException.class);
+		Assertions.assertThat(streams.getSubscriberCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void deveCalcularOSaldoUmaVezPorEscritaSomenteQuandoHouverInscritos() {
+		ReleaseChangedEvent evento = new ReleaseChangedEvent(1l, ReleaseEventTypeEnum.CRIADO, 10l);
+		Mockito.when(releaseService.getBalanceSummaryByUser(1l, null)).thenReturn(new BalanceSummaryDTO(BigDecimal.TEN, BigDecimal.ONE));
+
+		streams.onReleaseChanged(evento);
+		Mockito.verifyNoInteractions(releaseService);
+
+		streams.subscribe(1l);
+		streams.subscribe(1l);
+		streams.onReleaseChanged(evento);
+
+		Mockito.verify(releaseService, Mockito.times(1)).getBalanceSummaryByUser(1l, null);
+	}
+
+	@Test
+	public void deveEnviarOsEventosDeUmUsuarioEmOrdemTrocandoOsExcedentesPorResync() throws Exception {
+		Mockito.when(releaseService.getBalanceSummaryByUser(1l, null)).thenReturn(new BalanceSummaryDTO(BigDecimal.TEN, BigDecimal.ONE));
+		CountDownLatch enviando = new CountDownLatch(1);
+		CountDownLatch liberar = new CountDownLatch(1);
+		EmissorGravado lento = new EmissorGravado() {
+			@Override
+			public void send(SseEventBuilder builder) throws IOException {
+				super.send(builder);
+				enviando.countDown();
+				try {
+					liberar.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+		emitters.add(lento);
+		streams.subscribe(1l);
+
+		// the first write is pushed on another thread and blocks on the client
+		Thread primeiro = new Thread(() -> streams.onReleaseChanged(new ReleaseChangedEvent(1l, ReleaseEventTypeEnum.CRIADO, 1l)));
+		primeiro.start();
+		Assertions.assertThat(enviando.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// meanwhile five more writes arrive: the queue of the user holds four, so they become a resync plus the last one
+		for (long id = 2; id <= 6; id++) {
+			streams.onReleaseChanged(new ReleaseChangedEvent(1l, ReleaseEventTypeEnum.ATUALIZADO, id));
+		}
+		liberar.countDown();
+		primeiro.join(5000);
+
+		Assertions.assertThat(lento.eventos).containsExactly("release", "resync", "release");
+		Mockito.verify(releaseService, Mockito.times(2)).getBalanceSummaryByUser(1l, null);
+	}
+
+	@Test
+	public void deveDescartarOInscritoCujoEnvioFalhar() {
+		Mockito.when(releaseService.getBalanceSummaryByUser(1l, null)).thenReturn(new BalanceSummaryDTO(BigDecimal.TEN, BigDecimal.ONE));
+		EmissorGravado ativo = new EmissorGravado();
+		emitters.add(new EmissorGravado() {
+			@Override
+			public void send(SseEventBuilder builder) throws IOException {
+				throw new IOException("conexão encerrada");
+			}
+		});
+		emitters.add(ativo);
+		streams.subscribe(1l);
+		streams.subscribe(1l);
+
+		streams.onReleaseChanged(new ReleaseChangedEvent(1l, ReleaseEventTypeEnum.CRIADO, 1l));
+		Assertions.assertThat(streams.getSubscriberCount()).isEqualTo(1);
+
+		streams.onReleaseChanged(new ReleaseChangedEvent(1l, ReleaseEventTypeEnum.REMOVIDO, 1l));
+		Assertions.assertThat(ativo.eventos).containsExactly("release", "release");
+	}
+
+	static class EmissorGravado extends SseEmitter {
+
+		final List<String> eventos = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			String texto = builder.build().stream()
+					.map(ResponseBodyEmitter.DataWithMediaType::getData)
+					.filter(String.class::isInstance)
+					.map(String.class::cast)
+					.collect(Collectors.joining());
+			int inicio = texto.indexOf("event:") + "event:".length();
+			eventos.add(texto.substring(inicio, texto.indexOf('\n', inicio)));
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.dev.finances.service.search;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.dev.finances.api.dto.PaginatedResponseDTO;
+import com.dev.finances.api.dto.ReleaseSearchHitDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+
+public class TrigramIndexTest {
+
+	@Test
+	public void deveEncontrarDescricoesMesmoComErroDeDigitacao() {
+		TrigramIndex index = new TrigramIndex();
+		index.add(lancamento(1L, "Mercado padaria"));
+		index.add(lancamento(2L, "Farmácia"));
+
+		List<ReleaseSearchHitDTO> hits = index.search("mercdo", 0.5, 10).getItems();
+
+		Assertions.assertThat(hits).hasSize(1);
+		Assertions.assertThat(hits.get(0).getRelease().getId()).isEqualTo(1L);
+	}
+
+	@Test
+	public void deveIgnorarAcentosEMaiusculas() {
+		TrigramIndex index = new TrigramIndex();
+		index.add(lancamento(1L, "Salário"));
+
+		List<ReleaseSearchHitDTO> hits = index.search("SALARIO", 0.5, 10).getItems();
+
+		Assertions.assertThat(hits).hasSize(1);
+		Assertions.assertThat(hits.get(0).getScore()).isEqualTo(1.0);
+	}
+
+	@Test
+	public void deveOrdenarPelaSimilaridadeEDepoisPelosMaisRecentes() {
+		TrigramIndex index = new TrigramIndex();
+		index.add(lancamento(1L, "Supermercado"));
+		index.add(lancamento(2L, "Mercado"));
+		index.add(lancamento(3L, "Mercado"));
+
+		List<ReleaseSearchHitDTO> hits = index.search("mercado", 0.5, 10).getItems();
+
+		Assertions.assertThat(hits).extracting(hit -> hit.getRelease().getId()).containsExactly(3L, 2L, 1L);
+	}
+
+	@Test
+	public void deveManterSomenteOsMelhoresResultadosEContarTodos() {
+		TrigramIndex index = new TrigramIndex();
+		index.add(lancamento(1L, "Supermercado"));
+		index.add(lancamento(2L, "Mercado"));
+		index.add(lancamento(3L, "Mercado"));
+		index.add(lancamento(4L, "Farmácia"));
+
+		PaginatedResponseDTO<ReleaseSearchHitDTO> resultado = index.search("mercado", 0.5, 2);
+
+		Assertions.assertThat(resultado.getItems()).extracting(hit -> hit.getRelease().getId()).containsExactly(3L, 2L);
+		Assertions.assertThat(resultado.getTotalRecords()).isEqualTo(3L);
+	}
+
+	private ReleasesDTO lancamento(Long id, String description) {
+		return ReleasesDTO.builder().id(id).description(description).build();
+	}
+}
@@ -0,0 +1,102 @@
+package com.dev.finances.service.statement;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.model.enums.StatementFormatEnum;
+
+public class StatementParserTest {
+
+	@Test
+	public void deveLerLancamentosDeUmCsvComCabecalho() {
+		String csv = "data;descricao;valor\n"
+				+ "31/01/2020;Salário;1.500,00\n"
+				+ "\n"
+				+ "2020-02-01;\"Mercado; padaria\";-120,35\n";
+
+		List<StatementEntry> entries = ler(StatementFormatEnum.CSV, csv);
+
+		Assertions.assertThat(entries).hasSize(2);
+		Assertions.assertThat(entries.get(0).getLine()).isEqualTo(2);
+		Assertions.assertThat(entries.get(0).getRelease().getValue()).isEqualByComparingTo(new BigDecimal("1500.00"));
+		Assertions.assertThat(entries.get(0).getRelease().getType()).isEqualTo(ReleaseTypeEnum.RECEITA);
+		Assertions.assertThat(entries.get(0).getRelease().getMes()).isEqualTo(1);
+		Assertions.assertThat(entries.get(1).getRelease().getDescription()).isEqualTo("Mercado; padaria");
+		Assertions.assertThat(entries.get(1).getRelease().getValue()).isEqualByComparingTo(new BigDecimal("120.35"));
+		Assertions.assertThat(entries.get(1).getRelease().getType()).isEqualTo(ReleaseTypeEnum.DESPESA);
+	}
+
+	@Test
+	public void deveRejeitarLinhasInvalidasDoCsvSemInterromperALeitura() {
+		String csv = "2020-01-31,Salário,1500.00,RECEITA\n"
+				+ "2020-13-01,Data errada,10.00\n"
+				+ "2020-02-01,Sem valor\n"
+				+ "2020-02-02,Aluguel,900.00,DESPESA\n";
+
+		List<StatementEntry> entries = ler(StatementFormatEnum.CSV, csv);
+
+		Assertions.assertThat(entries).hasSize(4);
+		Assertions.assertThat(entries.get(1).isValid()).isFalse();
+		Assertions.assertThat(entries.get(2).isValid()).isFalse();
+		Assertions.assertThat(entries.get(3).getRelease().getType()).isEqualTo(ReleaseTypeEnum.DESPESA);
+	}
+
+	@Test
+	public void deveRejeitarValoresComSeparadorAmbiguo() {
+		String csv = "2020-01-31;Salário;1,500\n"
+				+ "2020-01-31;Aluguel;1.500\n"
+				+ "2020-01-31;Bônus;1.500.000\n"
+				+ "2020-01-31;Mercado;1,5\n";
+
+		List<StatementEntry> entries = ler(StatementFormatEnum.CSV, csv);
+
+		Assertions.assertThat(entries.get(0).isValid()).isFalse();
+		Assertions.assertThat(entries.get(1).isValid()).isFalse();
+		Assertions.assertThat(entries.get(2).getRelease().getValue()).isEqualByComparingTo(new BigDecimal("1500000"));
+		Assertions.assertThat(entries.get(3).getRelease().getValue()).isEqualByComparingTo(new BigDecimal("1.5"));
+	}
+
+	@Test
+	public void deveLerValoresEntreAspasComQuebrasDeLinha() {
+		String csv = "data;descricao;valor;tipo\n"
+				+ "2020-01-31;\"Aluguel\nde \"\"janeiro\"\"\";900.00;DESPESA\n"
+				+ "2020-02-01;Salário;1500.00;RECEITA\n";
+
+		List<StatementEntry> entries = ler(StatementFormatEnum.CSV, csv);
+
+		Assertions.assertThat(entries).hasSize(2);
+		Assertions.assertThat(entries.get(0).getRelease().getDescription()).isEqualTo("Aluguel\nde \"janeiro\"");
+		Assertions.assertThat(entries.get(1).getLine()).isEqualTo(4);
+		Assertions.assertThat(entries.get(1).getRelease().getDescription()).isEqualTo("Salário");
+	}
+
+	@Test
+	public void deveLerTransacoesDeUmOfxSgml() {
+		String ofx = "OFXHEADER:100\nDATA:OFXSGML\n\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>\n"
+				+ "<STMTTRN>\n<TRNTYPE>DEBIT\n<DTPOSTED>20200115120000[-3:BRT]\n<TRNAMT>-50.10\n<MEMO>Farmácia\n</STMTTRN>\n"
+				+ "<STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20200120<TRNAMT>2000.00<NAME>Salário</STMTTRN>\n"
+				+ "</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>";
+
+		List<StatementEntry> entries = ler(StatementFormatEnum.OFX, ofx);
+
+		Assertions.assertThat(entries).hasSize(2);
+		Assertions.assertThat(entries.get(0).getRelease().getDescription()).isEqualTo("Farmácia");
+		Assertions.assertThat(entries.get(0).getRelease().getType()).isEqualTo(ReleaseTypeEnum.DESPESA);
+		Assertions.assertThat(entries.get(0).getRelease().getValue()).isEqualByComparingTo(new BigDecimal("50.10"));
+		Assertions.assertThat(entries.get(1).getRelease().getDescription()).isEqualTo("Salário");
+		Assertions.assertThat(entries.get(1).getRelease().getType()).isEqualTo(ReleaseTypeEnum.RECEITA);
+	}
+
+	private List<StatementEntry> ler(StatementFormatEnum format, String content) {
+		List<StatementEntry> entries = new ArrayList<>();
+		StatementParser.of(format, new BufferedReader(new StringReader(content))).forEachRemaining(entries::add);
+		return entries;
+	}
+}